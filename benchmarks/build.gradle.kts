@@ -0,0 +1,27 @@
+plugins {
+    id("me.champeau.jmh")
+}
+
+dependencies {
+    implementation(project(":common", configuration = "namedElements")) { isTransitive = false }
+
+    val mockitoVersion: String by project
+    // Stands in for the level where benchmarks need real entities.
+    "jmhImplementation"(group = "org.mockito", name = "mockito-core", version = mockitoVersion)
+}
+
+// The jmh source set only extends implementation, so Minecraft and the remapped mods have to be added explicitly.
+configurations {
+    named("jmhCompileClasspath") { extendsFrom(compileClasspath.get()) }
+    named("jmhRuntimeClasspath") { extendsFrom(runtimeClasspath.get()) }
+}
+
+jmh {
+    jmhVersion.set(providers.gradleProperty("jmhVersion"))
+    // Run a subset with -Pbenchmarks=<regex>.
+    providers.gradleProperty("benchmarks").orNull?.let { includes.add(it) }
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+}
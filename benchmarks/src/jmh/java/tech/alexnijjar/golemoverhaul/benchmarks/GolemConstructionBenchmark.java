@@ -0,0 +1,127 @@
+package tech.alexnijjar.golemoverhaul.benchmarks;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.pattern.BlockInWorld;
+import net.minecraft.world.level.block.state.pattern.BlockPattern;
+import net.minecraft.world.level.block.state.pattern.BlockPatternBuilder;
+import org.openjdk.jmh.annotations.*;
+import tech.alexnijjar.golemoverhaul.common.construction.GolemConstruction;
+import tech.alexnijjar.golemoverhaul.common.construction.GolemPattern;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures how long it takes to check a placed block against every golem pattern, against vanilla
+ * {@link BlockPattern#find} over the same patterns and blocks. Tags aren't bound without a server, so the patterns use
+ * plain block predicates in place of the recipe tags.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GolemConstructionBenchmark {
+
+    private static final BlockPos COMPLETE = new BlockPos(0, 64, 0);
+    private static final BlockPos INCOMPLETE = new BlockPos(32, 64, 0);
+    private static final BlockPos UNRELATED = new BlockPos(64, 64, 0);
+
+    private SyntheticLevel level;
+    private BlockPattern[] blockPatterns;
+
+    @Setup
+    public void setup() {
+        SyntheticLevel.bootstrap();
+
+        Predicate<BlockState> head = state -> state.is(Blocks.CARVED_PUMPKIN) || state.is(Blocks.JACK_O_LANTERN);
+        Predicate<BlockState> air = BlockState::isAir;
+        List<GolemPattern> patterns = List.of(
+            pattern(List.of("~^~", "/#/", "~/~"), head, air, is(Blocks.HAY_BLOCK), is(Blocks.OAK_FENCE)),
+            pattern(List.of("~^~", "/#/", "~/~"), head, air, is(Blocks.NETHERITE_BLOCK), is(Blocks.ANCIENT_DEBRIS)),
+            pattern(List.of("~^~", "###", "~#~"), head, air, is(Blocks.IRON_BLOCK), is(Blocks.IRON_BLOCK)),
+            pattern(List.of("^", "#", "#"), head, air, is(Blocks.SNOW_BLOCK), is(Blocks.SNOW_BLOCK)));
+        GolemConstruction.setPatterns(patterns);
+        blockPatterns = patterns.stream().map(GolemConstructionBenchmark::toBlockPattern).toArray(BlockPattern[]::new);
+
+        level = new SyntheticLevel();
+        buildHayGolem(COMPLETE, true);
+        buildHayGolem(INCOMPLETE, false);
+        level.setBlock(UNRELATED, Blocks.STONE.defaultBlockState());
+
+        // Compile the candidates up front so the first iteration doesn't pay for it.
+        GolemConstruction.findPattern(level, COMPLETE);
+        GolemConstruction.findPattern(level, UNRELATED);
+    }
+
+    private static GolemPattern pattern(List<String> rows, Predicate<BlockState> head, Predicate<BlockState> air, Predicate<BlockState> body, Predicate<BlockState> limb) {
+        return new GolemPattern(
+            rows,
+            Map.of('^', head, '~', air, '#', body, '/', limb),
+            Set.of('^'),
+            () -> EntityType.IRON_GOLEM);
+    }
+
+    // Built the way vanilla builds the iron and snow golem patterns.
+    private static BlockPattern toBlockPattern(GolemPattern pattern) {
+        BlockPatternBuilder builder = BlockPatternBuilder.start().aisle(pattern.rows().toArray(String[]::new));
+        pattern.key().forEach((symbol, predicate) -> builder.where(symbol, BlockInWorld.hasState(predicate)));
+        return builder.build();
+    }
+
+    private static Predicate<BlockState> is(Block block) {
+        return state -> state.is(block);
+    }
+
+    private void buildHayGolem(BlockPos head, boolean complete) {
+        level.setBlock(head, Blocks.CARVED_PUMPKIN.defaultBlockState());
+        level.setBlock(head.below(), Blocks.HAY_BLOCK.defaultBlockState());
+        level.setBlock(head.below().west(), Blocks.OAK_FENCE.defaultBlockState());
+        level.setBlock(head.below(2), Blocks.OAK_FENCE.defaultBlockState());
+        if (complete) level.setBlock(head.below().east(), Blocks.OAK_FENCE.defaultBlockState());
+    }
+
+    @Benchmark
+    public GolemPattern completePattern() {
+        return GolemConstruction.findPattern(level, COMPLETE);
+    }
+
+    @Benchmark
+    public GolemPattern incompletePattern() {
+        return GolemConstruction.findPattern(level, INCOMPLETE);
+    }
+
+    @Benchmark
+    public GolemPattern unrelatedBlock() {
+        return GolemConstruction.findPattern(level, UNRELATED);
+    }
+
+    @Benchmark
+    public BlockPattern.BlockPatternMatch vanillaCompletePattern() {
+        return findBlockPattern(COMPLETE);
+    }
+
+    @Benchmark
+    public BlockPattern.BlockPatternMatch vanillaIncompletePattern() {
+        return findBlockPattern(INCOMPLETE);
+    }
+
+    @Benchmark
+    public BlockPattern.BlockPatternMatch vanillaUnrelatedBlock() {
+        return findBlockPattern(UNRELATED);
+    }
+
+    // Tries every pattern in turn, like CarvedPumpkinBlock does for the snow and iron golems.
+    private BlockPattern.BlockPatternMatch findBlockPattern(BlockPos pos) {
+        for (BlockPattern pattern : blockPatterns) {
+            BlockPattern.BlockPatternMatch match = pattern.find(level, pos);
+            if (match != null) return match;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,158 @@
+package tech.alexnijjar.golemoverhaul.benchmarks;
+
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.AbortableIterationConsumer;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.entity.ai.attributes.Attributes;
+import net.minecraft.world.entity.ai.targeting.TargetingConditions;
+import net.minecraft.world.entity.animal.IronGolem;
+import net.minecraft.world.entity.monster.Zombie;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.level.EntityGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.entity.EntitySectionStorage;
+import net.minecraft.world.level.entity.EntityTypeTest;
+import net.minecraft.world.level.entity.Visibility;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.scores.Scoreboard;
+import org.jetbrains.annotations.Nullable;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import tech.alexnijjar.golemoverhaul.common.level.EntitySectionIndex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Measures the nearest target lookup hostile mobs do for golems, against the entity query and stream it replaced.
+ * Both run every candidate through the same targeting conditions {@code NearestAttackableTargetGoalMixin} uses, line of
+ * sight included. Zombies search for iron golems, which stand in for the mod's golems since those can't be created
+ * without the mod's registries. The level is a mock whose only real behaviour is clipping against a
+ * {@link SyntheticLevel}, and the replaced query runs against real entity sections.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GolemTargetIndexBenchmark {
+
+    private static final int LEVEL_SIZE = 1024;
+    private static final int SEARCHERS = 64;
+
+    @Param({"16", "256", "2048"})
+    public int golems;
+
+    private final EntitySectionIndex<IronGolem> index = new EntitySectionIndex<>();
+    private final EntitySectionStorage<Entity> sections = new EntitySectionStorage<>(Entity.class, section -> Visibility.TRACKED);
+    private final List<Zombie> searchers = new ArrayList<>();
+    private final EntityGetter entityGetter = new SectionEntityGetter();
+    private TargetingConditions targetConditions;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SyntheticLevel.bootstrap();
+        SyntheticLevel blocks = new SyntheticLevel();
+        Level level = Mockito.mock(Level.class);
+        Mockito.when(level.getScoreboard()).thenReturn(new Scoreboard());
+        Mockito.when(level.clip(Mockito.any(ClipContext.class))).thenAnswer(invocation -> blocks.clip(invocation.getArgument(0)));
+
+        RandomSource random = RandomSource.create(0);
+        for (int i = 0; i < golems; i++) {
+            IronGolem golem = new IronGolem(EntityType.IRON_GOLEM, level);
+            golem.setPos(random.nextInt(LEVEL_SIZE), 64 + random.nextInt(8), random.nextInt(LEVEL_SIZE));
+            sections.getOrCreateSection(SectionPos.asLong(golem.blockPosition())).add(golem);
+            index.add(golem);
+        }
+        for (int i = 0; i < SEARCHERS; i++) {
+            Zombie zombie = new Zombie(EntityType.ZOMBIE, level);
+            zombie.setPos(random.nextInt(LEVEL_SIZE), 64 + random.nextInt(8), random.nextInt(LEVEL_SIZE));
+            searchers.add(zombie);
+        }
+        // Built the same way as in NearestAttackableTargetGoal, which zombies use to find iron golems.
+        targetConditions = TargetingConditions.forCombat().range(targetDistance(searchers.get(0)));
+    }
+
+    @Benchmark
+    public IronGolem index() {
+        Zombie searcher = nextSearcher();
+        return index.findNearest(searchArea(searcher), searcher.getX(), searcher.getEyeY(), searcher.getZ(),
+            golem -> golem != searcher && golem.isAlive() && targetConditions.test(searcher, golem));
+    }
+
+    // What NearestAttackableTargetGoalMixin did before the index: query every entity in the search area from the
+    // level's entity sections, then pick the nearest that passes the targeting conditions.
+    @Benchmark
+    public LivingEntity entityQuery() {
+        Zombie searcher = nextSearcher();
+        return entityGetter.getNearestEntity(
+            entityGetter.getEntities(searcher, searchArea(searcher), entity -> entity instanceof IronGolem golem && golem.isAlive())
+                .stream()
+                .map(e -> (LivingEntity) e)
+                .toList(),
+            targetConditions,
+            searcher,
+            searcher.getX(),
+            searcher.getEyeY(),
+            searcher.getZ());
+    }
+
+    private Zombie nextSearcher() {
+        next = (next + 1) % SEARCHERS;
+        Zombie searcher = searchers.get(next);
+        // Line of sight results are cached until the mob's next tick, which would otherwise make repeated lookups free.
+        searcher.getSensing().tick();
+        return searcher;
+    }
+
+    // Matches NearestAttackableTargetGoal#getTargetSearchArea.
+    private static AABB searchArea(Mob searcher) {
+        double distance = targetDistance(searcher);
+        return searcher.getBoundingBox().inflate(distance, 4, distance);
+    }
+
+    private static double targetDistance(Mob searcher) {
+        return searcher.getAttributeValue(Attributes.FOLLOW_RANGE);
+    }
+
+    /**
+     * Looks entities up from real entity sections the way {@link Level#getEntities(Entity, AABB, Predicate)} does,
+     * since the mocked level has no entity manager. The nearest entity lookup is the default one of
+     * {@link EntityGetter}, same as on a level.
+     */
+    private class SectionEntityGetter implements EntityGetter {
+
+        @Override
+        public List<Entity> getEntities(@Nullable Entity except, AABB area, Predicate<? super Entity> predicate) {
+            List<Entity> entities = new ArrayList<>();
+            sections.getEntities(area, AbortableIterationConsumer.forConsumer(entity -> {
+                if (entity != except && predicate.test(entity)) {
+                    entities.add(entity);
+                }
+            }));
+            return entities;
+        }
+
+        @Override
+        public <T extends Entity> List<T> getEntities(EntityTypeTest<Entity, T> test, AABB area, Predicate<? super T> predicate) {
+            List<T> entities = new ArrayList<>();
+            sections.getEntities(test, area, AbortableIterationConsumer.forConsumer(entity -> {
+                if (predicate.test(entity)) {
+                    entities.add(entity);
+                }
+            }));
+            return entities;
+        }
+
+        @Override
+        public List<? extends Player> players() {
+            return List.of();
+        }
+    }
+}
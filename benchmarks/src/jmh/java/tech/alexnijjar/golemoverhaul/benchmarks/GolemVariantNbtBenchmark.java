@@ -0,0 +1,105 @@
+package tech.alexnijjar.golemoverhaul.benchmarks;
+
+import net.minecraft.nbt.CompoundTag;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HayGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.SlimeGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.TerracottaGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemNbt;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing the variant enums of terracotta, slime and hay golems, comparing the versioned ordinal
+ * encoding their save data uses with the lowercase names it used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GolemVariantNbtBenchmark {
+
+    private static final TerracottaGolem.Type[] TERRACOTTA_TYPES = TerracottaGolem.Type.values();
+    private static final SlimeGolem.Size[] SLIME_SIZES = SlimeGolem.Size.values();
+    private static final HayGolem.Color[] HAY_COLORS = HayGolem.Color.values();
+
+    private CompoundTag terracotta;
+    private CompoundTag slime;
+    private CompoundTag hay;
+
+    private CompoundTag legacyTerracotta;
+    private CompoundTag legacySlime;
+    private CompoundTag legacyHay;
+
+    @Setup
+    public void setup() {
+        SyntheticLevel.bootstrap();
+        terracotta = new CompoundTag();
+        slime = new CompoundTag();
+        hay = new CompoundTag();
+        write(terracotta, slime, hay, TerracottaGolem.Type.DEAD_BUSH, SlimeGolem.Size.SMALL, HayGolem.Color.RED);
+        legacyTerracotta = new CompoundTag();
+        legacySlime = new CompoundTag();
+        legacyHay = new CompoundTag();
+        writeLegacy(legacyTerracotta, legacySlime, legacyHay, TerracottaGolem.Type.DEAD_BUSH, SlimeGolem.Size.SMALL, HayGolem.Color.RED);
+    }
+
+    @Benchmark
+    public void read(Blackhole blackhole) {
+        blackhole.consume(GolemNbt.readEnum(terracotta, "Type", TERRACOTTA_TYPES, TerracottaGolem.Type.NORMAL));
+        blackhole.consume(GolemNbt.readEnum(slime, "Size", SLIME_SIZES, SlimeGolem.Size.LARGE));
+        blackhole.consume(GolemNbt.readEnum(hay, "Color", HAY_COLORS, HayGolem.Color.GREEN));
+    }
+
+    @Benchmark
+    public void readLegacyFallback(Blackhole blackhole) {
+        blackhole.consume(GolemNbt.readEnum(legacyTerracotta, "Type", TERRACOTTA_TYPES, TerracottaGolem.Type.NORMAL));
+        blackhole.consume(GolemNbt.readEnum(legacySlime, "Size", SLIME_SIZES, SlimeGolem.Size.LARGE));
+        blackhole.consume(GolemNbt.readEnum(legacyHay, "Color", HAY_COLORS, HayGolem.Color.GREEN));
+    }
+
+    @Benchmark
+    public void readLegacy(Blackhole blackhole) {
+        blackhole.consume(TerracottaGolem.Type.valueOf(legacyTerracotta.getString("Type").toUpperCase(Locale.ROOT)));
+        blackhole.consume(SlimeGolem.Size.valueOf(legacySlime.getString("Size").toUpperCase(Locale.ROOT)));
+        blackhole.consume(HayGolem.Color.valueOf(legacyHay.getString("Color").toUpperCase(Locale.ROOT)));
+    }
+
+    @Benchmark
+    public void write(Blackhole blackhole) {
+        CompoundTag terracotta = new CompoundTag();
+        CompoundTag slime = new CompoundTag();
+        CompoundTag hay = new CompoundTag();
+        write(terracotta, slime, hay, TerracottaGolem.Type.CACTUS, SlimeGolem.Size.LARGE, HayGolem.Color.GREEN);
+        blackhole.consume(terracotta);
+        blackhole.consume(slime);
+        blackhole.consume(hay);
+    }
+
+    @Benchmark
+    public void writeLegacy(Blackhole blackhole) {
+        CompoundTag terracotta = new CompoundTag();
+        CompoundTag slime = new CompoundTag();
+        CompoundTag hay = new CompoundTag();
+        writeLegacy(terracotta, slime, hay, TerracottaGolem.Type.CACTUS, SlimeGolem.Size.LARGE, HayGolem.Color.GREEN);
+        blackhole.consume(terracotta);
+        blackhole.consume(slime);
+        blackhole.consume(hay);
+    }
+
+    private static void write(CompoundTag terracotta, CompoundTag slime, CompoundTag hay, TerracottaGolem.Type type, SlimeGolem.Size size, HayGolem.Color color) {
+        GolemNbt.writeVersion(terracotta);
+        GolemNbt.writeEnum(terracotta, "Type", type);
+        GolemNbt.writeVersion(slime);
+        GolemNbt.writeEnum(slime, "Size", size);
+        GolemNbt.writeVersion(hay);
+        GolemNbt.writeEnum(hay, "Color", color);
+    }
+
+    private static void writeLegacy(CompoundTag terracotta, CompoundTag slime, CompoundTag hay, TerracottaGolem.Type type, SlimeGolem.Size size, HayGolem.Color color) {
+        terracotta.putString("Type", type.name().toLowerCase(Locale.ROOT));
+        slime.putString("Size", size.name().toLowerCase(Locale.ROOT));
+        hay.putString("Color", color.name().toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,158 @@
+package tech.alexnijjar.golemoverhaul.benchmarks;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.*;
+import net.minecraft.util.RandomSource;
+import org.openjdk.jmh.annotations.*;
+import tech.alexnijjar.golemoverhaul.common.entities.HousedBee;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving and loading the bees inside a honey golem, including writing them to bytes as a chunk save would.
+ * The legacy roster stores every bee as a full entity tag, like golems saved before bees were stored compactly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class HousedBeeBenchmark {
+
+    private static final int OCCUPATION_TICKS = 2400;
+
+    @Param({"3", "16"})
+    public int bees;
+
+    private ListTag compactRoster;
+    private ListTag legacyRoster;
+
+    @Setup
+    public void setup() {
+        SyntheticLevel.bootstrap();
+        RandomSource random = RandomSource.create(0);
+        UUID owner = UUID.randomUUID();
+
+        compactRoster = new ListTag();
+        legacyRoster = new ListTag();
+        for (int i = 0; i < bees; i++) {
+            CompoundTag legacy = new CompoundTag();
+            legacy.put("EntityData", createBeeTag(random, owner));
+            legacy.putInt("TicksInHive", i * 100);
+            legacy.putInt("MinOccupationTicks", OCCUPATION_TICKS);
+            legacyRoster.add(legacy);
+            compactRoster.add(HousedBee.load(legacy).save());
+        }
+    }
+
+    // Roughly what Bee#saveWithoutId writes for a bee that has been out of a hive.
+    private static CompoundTag createBeeTag(RandomSource random, UUID owner) {
+        CompoundTag tag = new CompoundTag();
+        tag.put("Pos", doubles(random.nextDouble() * 100, 64, random.nextDouble() * 100));
+        tag.put("Motion", doubles(0, -0.0784, 0));
+        ListTag rotation = new ListTag();
+        rotation.add(FloatTag.valueOf(random.nextFloat() * 360));
+        rotation.add(FloatTag.valueOf(0));
+        tag.put("Rotation", rotation);
+        tag.putFloat("FallDistance", 0);
+        tag.putShort("Fire", (short) -1);
+        tag.putShort("Air", (short) 300);
+        tag.putBoolean("OnGround", false);
+        tag.putBoolean("Invulnerable", false);
+        tag.putInt("PortalCooldown", 0);
+        tag.putUUID("UUID", new UUID(random.nextLong(), random.nextLong()));
+        tag.putFloat("Health", 10);
+        tag.putShort("HurtTime", (short) 0);
+        tag.putInt("HurtByTimestamp", 0);
+        tag.putShort("DeathTime", (short) 0);
+        tag.putFloat("AbsorptionAmount", 0);
+        ListTag attributes = new ListTag();
+        for (String name : new String[]{"minecraft:generic.max_health", "minecraft:generic.flying_speed", "minecraft:generic.movement_speed", "minecraft:generic.follow_range"}) {
+            CompoundTag attribute = new CompoundTag();
+            attribute.putString("Name", name);
+            attribute.putDouble("Base", 10);
+            attributes.add(attribute);
+        }
+        tag.put("attributes", attributes);
+        tag.putBoolean("FallFlying", false);
+        CompoundTag brain = new CompoundTag();
+        brain.put("memories", new CompoundTag());
+        tag.put("Brain", brain);
+        tag.putBoolean("CanPickUpLoot", false);
+        tag.putBoolean("PersistenceRequired", false);
+        ListTag armorItems = new ListTag();
+        ListTag armorDropChances = new ListTag();
+        for (int i = 0; i < 4; i++) {
+            armorItems.add(new CompoundTag());
+            armorDropChances.add(FloatTag.valueOf(0.085f));
+        }
+        tag.put("ArmorItems", armorItems);
+        tag.put("ArmorDropChances", armorDropChances);
+        ListTag handItems = new ListTag();
+        ListTag handDropChances = new ListTag();
+        for (int i = 0; i < 2; i++) {
+            handItems.add(new CompoundTag());
+            handDropChances.add(FloatTag.valueOf(0.085f));
+        }
+        tag.put("HandItems", handItems);
+        tag.put("HandDropChances", handDropChances);
+        tag.putBoolean("LeftHanded", false);
+        tag.putInt("Age", 0);
+        tag.putInt("ForcedAge", 0);
+        tag.putInt("InLove", 0);
+        tag.put("hive_pos", NbtUtils.writeBlockPos(new BlockPos(10, 70, 10)));
+        tag.putBoolean("HasNectar", random.nextBoolean());
+        tag.putBoolean("HasStung", false);
+        tag.putInt("TicksSincePollination", random.nextInt(600));
+        tag.putInt("CannotEnterHiveTicks", 0);
+        tag.putInt("CropsGrownSincePollination", 0);
+        tag.putInt("AngerTime", 0);
+        tag.putUUID("HoneyGolemOwner", owner);
+        return tag;
+    }
+
+    private static ListTag doubles(double... values) {
+        ListTag list = new ListTag();
+        for (double value : values) {
+            list.add(DoubleTag.valueOf(value));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public ListTag compactRoundTrip() throws IOException {
+        return roundTrip(compactRoster);
+    }
+
+    @Benchmark
+    public ListTag legacyRoundTrip() throws IOException {
+        return roundTrip(legacyRoster);
+    }
+
+    // Legacy bees are saved back compactly, which is what happens the first time an old golem is saved again.
+    private static ListTag roundTrip(ListTag roster) throws IOException {
+        CompoundTag root = new CompoundTag();
+        root.put("Bees", roster);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        NbtIo.write(root, new DataOutputStream(bytes));
+        CompoundTag read = NbtIo.read(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        List<HousedBee> loaded = load(read.getList("Bees", Tag.TAG_COMPOUND));
+        ListTag saved = new ListTag();
+        for (HousedBee bee : loaded) {
+            saved.add(bee.save());
+        }
+        return saved;
+    }
+
+    private static List<HousedBee> load(ListTag roster) {
+        List<HousedBee> bees = new ArrayList<>(roster.size());
+        for (int i = 0; i < roster.size(); i++) {
+            bees.add(HousedBee.load(roster.getCompound(i)));
+        }
+        return bees;
+    }
+}
@@ -0,0 +1,173 @@
+package tech.alexnijjar.golemoverhaul.benchmarks;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.SharedConstants;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.Holder;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.flag.FeatureFlagSet;
+import net.minecraft.world.flag.FeatureFlags;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.ColorResolver;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.BiomeManager;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.border.WorldBorder;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.dimension.DimensionType;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.lighting.LevelLightEngine;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.shapes.VoxelShape;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A level stand-in that only holds block states, so benchmarks don't need a running server. It's a
+ * {@link LevelReader} so vanilla code that reads blocks, like {@link net.minecraft.world.level.block.state.pattern.BlockPattern},
+ * can run against it too. Everything that needs chunks, biomes or lighting is unsupported.
+ */
+public class SyntheticLevel implements LevelReader {
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    private final Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+    private final WorldBorder worldBorder = new WorldBorder();
+
+    /**
+     * Loads the vanilla registries, required before touching blocks or entity types.
+     */
+    public static void bootstrap() {
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+    }
+
+    public void setBlock(BlockPos pos, BlockState state) {
+        if (state.isAir()) {
+            states.remove(pos.asLong());
+        } else {
+            states.put(pos.asLong(), state);
+        }
+    }
+
+    @Override
+    public BlockState getBlockState(BlockPos pos) {
+        return states.getOrDefault(pos.asLong(), AIR);
+    }
+
+    @Override
+    public FluidState getFluidState(BlockPos pos) {
+        return getBlockState(pos).getFluidState();
+    }
+
+    @Override
+    public @Nullable BlockEntity getBlockEntity(BlockPos pos) {
+        return null;
+    }
+
+    @Override
+    public int getHeight() {
+        return 384;
+    }
+
+    @Override
+    public int getMinBuildHeight() {
+        return -64;
+    }
+
+    // Every chunk counts as loaded, so vanilla code reads blocks instead of skipping them.
+    @Override
+    public boolean hasChunk(int chunkX, int chunkZ) {
+        return true;
+    }
+
+    @Override
+    public @Nullable ChunkAccess getChunk(int x, int z, ChunkStatus status, boolean requireChunk) {
+        return null;
+    }
+
+    @Override
+    public @Nullable BlockGetter getChunkForCollisions(int chunkX, int chunkZ) {
+        return this;
+    }
+
+    @Override
+    public List<VoxelShape> getEntityCollisions(@Nullable Entity entity, AABB collisionBox) {
+        return List.of();
+    }
+
+    @Override
+    public WorldBorder getWorldBorder() {
+        return worldBorder;
+    }
+
+    @Override
+    public int getHeight(Heightmap.Types type, int x, int z) {
+        return getMinBuildHeight();
+    }
+
+    @Override
+    public int getSkyDarken() {
+        return 0;
+    }
+
+    @Override
+    public float getShade(Direction direction, boolean shade) {
+        return 1;
+    }
+
+    @Override
+    public boolean isClientSide() {
+        return false;
+    }
+
+    @Override
+    public int getSeaLevel() {
+        return 63;
+    }
+
+    @Override
+    public FeatureFlagSet enabledFeatures() {
+        return FeatureFlags.DEFAULT_FLAGS;
+    }
+
+    @Override
+    public int getBlockTint(BlockPos pos, ColorResolver resolver) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public LevelLightEngine getLightEngine() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public BiomeManager getBiomeManager() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Holder<Biome> getUncachedNoiseBiome(int x, int y, int z) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public DimensionType dimensionType() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public RegistryAccess registryAccess() {
+        throw new UnsupportedOperationException();
+    }
+}
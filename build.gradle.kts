@@ -11,6 +11,7 @@ plugins {
     id("dev.architectury.loom") version "1.6-SNAPSHOT" apply false
     id("architectury-plugin") version "3.4-SNAPSHOT"
     id("com.github.johnrengelman.shadow") version "7.1.2" apply false
+    id("me.champeau.jmh") version "0.7.2" apply false
 }
 
 architectury {
@@ -28,6 +29,9 @@ subprojects {
     val modLoader = project.name
     val modId = rootProject.name
     val isCommon = modLoader == rootProject.projects.common.name
+    val isBenchmarks = modLoader == rootProject.projects.benchmarks.name
+    // Benchmarks run against the common code, so they use its dependencies and aren't a platform.
+    val dependencyLoader = if (isBenchmarks) rootProject.projects.common.name else modLoader
 
     base {
         archivesName.set("$modId-$modLoader-$minecraftVersion")
@@ -71,11 +75,11 @@ subprojects {
             parchment(create(group = "org.parchmentmc.data", name = "parchment-1.20.4", version = parchmentVersion))
         })
 
-        "modApi"(group = "com.teamresourceful.resourcefullib", name = "resourcefullib-$modLoader-1.20.5", version = resourcefulLibVersion)
-        "modApi"(group = "com.teamresourceful.resourcefulconfig", name = "resourcefulconfig-$modLoader-1.20.5", version = resourcefulConfigVersion)
-        "modImplementation"(group = "software.bernie.geckolib", name = "geckolib-$modLoader-$minecraftVersion", version = geckolibVersion)
+        "modApi"(group = "com.teamresourceful.resourcefullib", name = "resourcefullib-$dependencyLoader-1.20.5", version = resourcefulLibVersion)
+        "modApi"(group = "com.teamresourceful.resourcefulconfig", name = "resourcefulconfig-$dependencyLoader-1.20.5", version = resourcefulConfigVersion)
+        "modImplementation"(group = "software.bernie.geckolib", name = "geckolib-$dependencyLoader-$minecraftVersion", version = geckolibVersion)
 
-        if (isCommon) {
+        if (isCommon || isBenchmarks) {
             "modApi"(group = "mezz.jei", name = "jei-1.20.4-common-api", version = jeiVersion)
             "modCompileOnly"(group = "me.shedaniel", name = "RoughlyEnoughItems-api", version = reiVersion)
             "modCompileOnly"(group = "me.shedaniel", name = "RoughlyEnoughItems-default-plugin", version = reiVersion)
@@ -104,6 +108,8 @@ subprojects {
         }
     }
 
+    if (isBenchmarks) return@subprojects
+
     if (!isCommon) {
         configure<ArchitectPluginExtension> {
             platformSetupLoomIde()
@@ -5,4 +5,13 @@ architectury {
 
 dependencies {
     modCompileOnly(group = "tech.thatgravyboat", name = "commonats", version = "2.0")
+
+    val junitVersion: String by project
+    testImplementation(platform("org.junit:junit-bom:$junitVersion"))
+    testImplementation(group = "org.junit.jupiter", name = "junit-jupiter")
+    testRuntimeOnly(group = "org.junit.platform", name = "junit-platform-launcher")
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
@@ -2,6 +2,7 @@ package tech.alexnijjar.golemoverhaul;
 
 import com.teamresourceful.resourcefulconfig.api.loader.Configurator;
 import tech.alexnijjar.golemoverhaul.common.config.GolemOverhaulConfig;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.BarrelGolemDispenseItemBehavior;
 import tech.alexnijjar.golemoverhaul.common.network.NetworkHandler;
 import tech.alexnijjar.golemoverhaul.common.registry.*;
 
@@ -25,5 +26,6 @@ public class GolemOverhaul {
 
     public static void postInit() {
         ModEntityTypes.registerSpawnPlacements();
+        BarrelGolemDispenseItemBehavior.register();
     }
 }
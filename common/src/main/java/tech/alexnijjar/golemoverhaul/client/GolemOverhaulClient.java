@@ -7,15 +7,16 @@ import net.minecraft.client.player.LocalPlayer;
 import net.minecraft.core.particles.ParticleType;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.core.registries.BuiltInRegistries;
-import software.bernie.geckolib.model.DefaultedEntityGeoModel;
-import software.bernie.geckolib.renderer.GeoEntityRenderer;
 import tech.alexnijjar.golemoverhaul.client.renderers.entities.golems.*;
 import tech.alexnijjar.golemoverhaul.client.renderers.entities.projectiles.CandleFlameProjectileRenderer;
 import tech.alexnijjar.golemoverhaul.client.renderers.entities.projectiles.HoneyBlobProjectileRenderer;
+import tech.alexnijjar.golemoverhaul.client.renderers.entities.projectiles.StaticGeoModelRenderer;
+import tech.alexnijjar.golemoverhaul.client.shots.ClientGolemShots;
 import tech.alexnijjar.golemoverhaul.client.utils.ClientPlatformUtils;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantComponents;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.NetheriteGolem;
 import tech.alexnijjar.golemoverhaul.common.network.NetworkHandler;
+import tech.alexnijjar.golemoverhaul.common.network.packets.ClientboundGolemShotsPacket;
 import tech.alexnijjar.golemoverhaul.common.network.packets.ServerboundGolemSummonPacket;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 
@@ -30,6 +31,7 @@ public class GolemOverhaulClient {
 
     public static void init() {
         registerEntityRenderers();
+        ClientboundGolemShotsPacket.setHandler(ClientGolemShots::handle);
     }
 
     @SuppressWarnings("UnreachableCode")
@@ -46,7 +48,7 @@ public class GolemOverhaulClient {
 
         ClientPlatformUtils.registerRenderer(ModEntityTypes.CANDLE_FLAME, CandleFlameProjectileRenderer::new);
         ClientPlatformUtils.registerRenderer(ModEntityTypes.MUD_BALL, context ->
-            new GeoEntityRenderer<>(context, new DefaultedEntityGeoModel<>(BuiltInRegistries.ENTITY_TYPE.getKey(ModEntityTypes.MUD_BALL.get()))));
+            new StaticGeoModelRenderer<>(context, BuiltInRegistries.ENTITY_TYPE.getKey(ModEntityTypes.MUD_BALL.get())));
         ClientPlatformUtils.registerRenderer(ModEntityTypes.HONEY_BLOB, HoneyBlobProjectileRenderer::new);
     }
 
@@ -54,6 +56,7 @@ public class GolemOverhaulClient {
     }
 
     public static void clientTick() {
+        ClientGolemShots.tick();
         if (KEY_NETHERITE_GOLEM_SUMMON.consumeClick()) {
             LocalPlayer player = Minecraft.getInstance().player;
             if (player == null) return;
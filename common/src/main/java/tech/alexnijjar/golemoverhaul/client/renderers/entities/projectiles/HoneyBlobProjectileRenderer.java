@@ -1,38 +1,24 @@
 package tech.alexnijjar.golemoverhaul.client.renderers.entities.projectiles;
 
 import com.mojang.blaze3d.vertex.PoseStack;
-import com.mojang.blaze3d.vertex.VertexConsumer;
 import com.mojang.math.Axis;
-import com.teamresourceful.resourcefullib.client.CloseablePoseStack;
-import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.core.registries.BuiltInRegistries;
-import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
-import software.bernie.geckolib.cache.object.BakedGeoModel;
-import software.bernie.geckolib.model.DefaultedEntityGeoModel;
-import software.bernie.geckolib.renderer.GeoEntityRenderer;
 import tech.alexnijjar.golemoverhaul.common.entities.projectiles.HoneyBlobProjectile;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 
-public class HoneyBlobProjectileRenderer extends GeoEntityRenderer<HoneyBlobProjectile> {
+public class HoneyBlobProjectileRenderer extends StaticGeoModelRenderer<HoneyBlobProjectile> {
 
     public HoneyBlobProjectileRenderer(EntityRendererProvider.Context renderManager) {
-        super(renderManager, new DefaultedEntityGeoModel<>(BuiltInRegistries.ENTITY_TYPE.getKey(ModEntityTypes.HONEY_BLOB.get())));
+        super(renderManager, BuiltInRegistries.ENTITY_TYPE.getKey(ModEntityTypes.HONEY_BLOB.get()), RenderType::entityTranslucentEmissive);
     }
 
     @Override
-    public RenderType getRenderType(HoneyBlobProjectile animatable, ResourceLocation texture, MultiBufferSource bufferSource, float partialTick) {
-        return RenderType.entityTranslucentEmissive(texture);
-    }
-
-    @Override
-    public void actuallyRender(PoseStack poseStack, HoneyBlobProjectile animatable, BakedGeoModel model, RenderType renderType, MultiBufferSource bufferSource, VertexConsumer buffer, boolean isReRender, float partialTick, int packedLight, int packedOverlay, float red, float green, float blue, float alpha) {
-        try (var pose = new CloseablePoseStack(poseStack)) {
-            pose.mulPose(Axis.YP.rotationDegrees(Mth.lerp(partialTick, animatable.yRotO, animatable.getYRot())));
-            pose.mulPose(Axis.ZP.rotationDegrees(Mth.lerp(partialTick, animatable.xRotO, animatable.getXRot())));
-            super.actuallyRender(poseStack, animatable, model, renderType, bufferSource, buffer, isReRender, partialTick, packedLight, packedOverlay, red, green, blue, alpha);
-        }
+    protected void applyRotations(HoneyBlobProjectile entity, PoseStack poseStack, float partialTick) {
+        poseStack.mulPose(Axis.YP.rotationDegrees(Mth.lerp(partialTick, entity.yRotO, entity.getYRot())));
+        poseStack.mulPose(Axis.ZP.rotationDegrees(Mth.lerp(partialTick, entity.xRotO, entity.getXRot())));
+        super.applyRotations(entity, poseStack, partialTick);
     }
 }
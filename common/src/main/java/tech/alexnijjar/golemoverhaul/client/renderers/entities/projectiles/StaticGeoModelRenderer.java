@@ -0,0 +1,141 @@
+package tech.alexnijjar.golemoverhaul.client.renderers.entities.projectiles;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Axis;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.entity.EntityRenderer;
+import net.minecraft.client.renderer.entity.EntityRendererProvider;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.joml.Vector4f;
+import software.bernie.geckolib.cache.GeckoLibCache;
+import software.bernie.geckolib.cache.object.*;
+import software.bernie.geckolib.util.RenderUtils;
+
+import java.util.function.Function;
+
+/**
+ * Renders a GeckoLib model that has no animations. The model is flattened into a single array of vertices in model
+ * space the first time it is rendered and after every resource reload, so rendering is a straight copy into the
+ * buffer and the entity doesn't need to be animatable.
+ */
+public class StaticGeoModelRenderer<T extends Entity> extends EntityRenderer<T> {
+
+    // Position, uv and normal.
+    private static final int VERTEX_SIZE = 8;
+
+    private final ResourceLocation modelLocation;
+    private final ResourceLocation texture;
+    private final Function<ResourceLocation, RenderType> renderType;
+
+    @Nullable
+    private BakedGeoModel bakedFrom;
+    private float[] vertices = new float[0];
+
+    public StaticGeoModelRenderer(EntityRendererProvider.Context context, ResourceLocation id, Function<ResourceLocation, RenderType> renderType) {
+        super(context);
+        this.modelLocation = new ResourceLocation(id.getNamespace(), "geo/entity/" + id.getPath() + ".geo.json");
+        this.texture = new ResourceLocation(id.getNamespace(), "textures/entity/" + id.getPath() + ".png");
+        this.renderType = renderType;
+    }
+
+    public StaticGeoModelRenderer(EntityRendererProvider.Context context, ResourceLocation id) {
+        this(context, id, RenderType::entityCutoutNoCull);
+    }
+
+    @Override
+    public void render(T entity, float entityYaw, float partialTick, PoseStack poseStack, MultiBufferSource buffer, int packedLight) {
+        float[] vertices = this.vertices();
+        if (vertices.length > 0) {
+            poseStack.pushPose();
+            this.applyRotations(entity, poseStack, partialTick);
+            PoseStack.Pose pose = poseStack.last();
+            Matrix4f matrix = pose.pose();
+            Matrix3f normal = pose.normal();
+            VertexConsumer consumer = buffer.getBuffer(this.renderType.apply(this.getTextureLocation(entity)));
+            for (int i = 0; i < vertices.length; i += VERTEX_SIZE) {
+                consumer.vertex(matrix, vertices[i], vertices[i + 1], vertices[i + 2])
+                    .color(1f, 1f, 1f, 1f)
+                    .uv(vertices[i + 3], vertices[i + 4])
+                    .overlayCoords(OverlayTexture.NO_OVERLAY)
+                    .uv2(packedLight)
+                    .normal(normal, vertices[i + 5], vertices[i + 6], vertices[i + 7])
+                    .endVertex();
+            }
+            poseStack.popPose();
+        }
+        super.render(entity, entityYaw, partialTick, poseStack, buffer, packedLight);
+    }
+
+    // The same transform GeoEntityRenderer applies to entities that aren't living.
+    protected void applyRotations(T entity, PoseStack poseStack, float partialTick) {
+        poseStack.translate(0, 0.01f, 0);
+        poseStack.mulPose(Axis.YP.rotationDegrees(180f - Mth.rotLerp(partialTick, entity.yRotO, entity.getYRot())));
+    }
+
+    @Override
+    public ResourceLocation getTextureLocation(T entity) {
+        return this.texture;
+    }
+
+    private float[] vertices() {
+        BakedGeoModel model = GeckoLibCache.getBakedModels().get(this.modelLocation);
+        if (model != this.bakedFrom) {
+            this.bakedFrom = model;
+            this.vertices = model == null ? new float[0] : bake(model);
+        }
+        return this.vertices;
+    }
+
+    private static float[] bake(BakedGeoModel model) {
+        FloatArrayList vertices = new FloatArrayList();
+        PoseStack poseStack = new PoseStack();
+        for (GeoBone bone : model.topLevelBones()) {
+            bakeBone(bone, poseStack, vertices);
+        }
+        return vertices.toFloatArray();
+    }
+
+    private static void bakeBone(GeoBone bone, PoseStack poseStack, FloatArrayList vertices) {
+        if (bone.isHidden()) return;
+        poseStack.pushPose();
+        RenderUtils.prepMatrixForBone(poseStack, bone);
+        for (GeoCube cube : bone.getCubes()) {
+            poseStack.pushPose();
+            RenderUtils.translateToPivotPoint(poseStack, cube);
+            RenderUtils.rotateMatrixAroundCube(poseStack, cube);
+            RenderUtils.translateAwayFromPivotPoint(poseStack, cube);
+            Matrix4f matrix = poseStack.last().pose();
+            Matrix3f normalMatrix = poseStack.last().normal();
+            for (GeoQuad quad : cube.quads()) {
+                if (quad == null) continue;
+                Vector3f normal = normalMatrix.transform(new Vector3f(quad.normal()));
+                for (GeoVertex vertex : quad.vertices()) {
+                    Vector4f position = matrix.transform(new Vector4f(vertex.position(), 1));
+                    vertices.add(position.x());
+                    vertices.add(position.y());
+                    vertices.add(position.z());
+                    vertices.add(vertex.texU());
+                    vertices.add(vertex.texV());
+                    vertices.add(normal.x());
+                    vertices.add(normal.y());
+                    vertices.add(normal.z());
+                }
+            }
+            poseStack.popPose();
+        }
+        for (GeoBone child : bone.getChildBones()) {
+            bakeBone(child, poseStack, vertices);
+        }
+        poseStack.popPose();
+    }
+}
@@ -0,0 +1,169 @@
+package tech.alexnijjar.golemoverhaul.client.shots;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import com.mojang.math.Axis;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.Camera;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientLevel;
+import net.minecraft.client.renderer.LevelRenderer;
+import net.minecraft.client.renderer.LightTexture;
+import net.minecraft.client.renderer.MultiBufferSource;
+import net.minecraft.client.renderer.RenderType;
+import net.minecraft.client.renderer.texture.OverlayTexture;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemDisplayContext;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix4f;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+import tech.alexnijjar.golemoverhaul.common.network.packets.ClientboundGolemShotsPacket;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The golem shots in flight on the client. Shots are placed by replaying the server simulation from where they were
+ * fired, so they don't need any updates until they hit something.
+ */
+public final class ClientGolemShots {
+
+    private static final ResourceLocation FLAME_TEXTURE = new ResourceLocation("textures/particle/flame.png");
+    private static final double RENDER_DISTANCE_SQR = 64 * 64;
+    // Impacts are only sent to players in range of them, so shots that fly out of range are dropped on their own.
+    private static final double TRACKING_DISTANCE_SQR = 80 * 80;
+    // Shots are dropped after this many client ticks even if the game time stops advancing.
+    private static final int MAX_LIFETIME_TICKS = 400;
+
+    private static final Int2ObjectMap<Shot> SHOTS = new Int2ObjectOpenHashMap<>();
+    private static final Map<GolemShotType, ItemStack> ITEMS = new EnumMap<>(GolemShotType.class);
+    private static final RandomSource RANDOM = RandomSource.create();
+
+    @Nullable
+    private static ClientLevel level;
+    private static int ticks;
+
+    private record Shot(GolemShotType type, double x, double y, double z, double velocityX, double velocityY, double velocityZ, long spawnTime, int receivedTick) {
+
+        private double age(long gameTime, float partialTick) {
+            return gameTime - this.spawnTime + partialTick;
+        }
+
+        private Vec3 position(double age) {
+            return new Vec3(
+                this.x + this.type.offset(this.velocityX, age, false),
+                this.y + this.type.offset(this.velocityY, age, true),
+                this.z + this.type.offset(this.velocityZ, age, false));
+        }
+    }
+
+    public static void handle(ClientboundGolemShotsPacket packet) {
+        ClientLevel level = currentLevel();
+        if (level == null) return;
+
+        for (ClientboundGolemShotsPacket.Spawn spawn : packet.spawned()) {
+            SHOTS.put(spawn.id(), new Shot(spawn.type(), spawn.x(), spawn.y(), spawn.z(), spawn.velocityX(), spawn.velocityY(), spawn.velocityZ(), level.getGameTime(), ticks));
+        }
+
+        for (ClientboundGolemShotsPacket.Impact impact : packet.impacts()) {
+            Shot shot = SHOTS.remove(impact.id());
+            if (shot == null) continue;
+            ParticleOptions particle = shot.type().impactParticle();
+            if (particle == null) continue;
+            for (int i = 0; i < 8; i++) {
+                level.addParticle(particle, impact.x(), impact.y(), impact.z(), 0, 0, 0);
+            }
+        }
+    }
+
+    public static void tick() {
+        ticks++;
+        ClientLevel level = currentLevel();
+        if (level == null || SHOTS.isEmpty()) return;
+
+        Entity camera = Minecraft.getInstance().getCameraEntity();
+        long gameTime = level.getGameTime();
+        SHOTS.values().removeIf(shot -> {
+            double age = shot.age(gameTime, 0);
+            if (age > shot.type().maxAge() || ticks - shot.receivedTick() > MAX_LIFETIME_TICKS) return true;
+            Vec3 pos = shot.position(age);
+            if (camera != null && camera.distanceToSqr(pos) > TRACKING_DISTANCE_SQR) return true;
+            if (shot.type() == GolemShotType.CANDLE_FLAME && (long) age % 5 == 0) {
+                for (int i = 0; i < 3; i++) {
+                    level.addParticle(ParticleTypes.FLAME,
+                        pos.x + RANDOM.nextDouble() * 0.5,
+                        pos.y + RANDOM.nextDouble() * 0.5,
+                        pos.z + RANDOM.nextDouble() * 0.5,
+                        0, 0, 0);
+                }
+            }
+            return false;
+        });
+    }
+
+    public static void render(PoseStack poseStack, Camera camera, float partialTick) {
+        ClientLevel level = currentLevel();
+        if (level == null || SHOTS.isEmpty()) return;
+
+        Minecraft minecraft = Minecraft.getInstance();
+        MultiBufferSource.BufferSource buffers = minecraft.renderBuffers().bufferSource();
+        Vec3 cameraPos = camera.getPosition();
+        long gameTime = level.getGameTime();
+
+        for (Shot shot : SHOTS.values()) {
+            Vec3 pos = shot.position(shot.age(gameTime, partialTick));
+            if (pos.distanceToSqr(cameraPos) > RENDER_DISTANCE_SQR) continue;
+
+            poseStack.pushPose();
+            poseStack.translate(pos.x - cameraPos.x, pos.y - cameraPos.y, pos.z - cameraPos.z);
+            poseStack.mulPose(camera.rotation());
+            poseStack.mulPose(Axis.YP.rotationDegrees(180));
+            if (shot.type() == GolemShotType.CANDLE_FLAME) {
+                renderFlame(poseStack.last().pose(), buffers.getBuffer(RenderType.entityCutoutNoCull(FLAME_TEXTURE)));
+            } else {
+                int light = LevelRenderer.getLightColor(level, BlockPos.containing(pos));
+                ItemStack stack = ITEMS.computeIfAbsent(shot.type(), type -> new ItemStack(type.item()));
+                minecraft.getItemRenderer().renderStatic(stack, ItemDisplayContext.GROUND, light, OverlayTexture.NO_OVERLAY, poseStack, buffers, level, 0);
+            }
+            poseStack.popPose();
+        }
+
+        buffers.endBatch();
+    }
+
+    private static void renderFlame(Matrix4f matrix, VertexConsumer buffer) {
+        vertex(matrix, buffer, -0.25f, -0.1f, 1, 1);
+        vertex(matrix, buffer, 0.25f, -0.1f, 0, 1);
+        vertex(matrix, buffer, 0.25f, 0.4f, 0, 0);
+        vertex(matrix, buffer, -0.25f, 0.4f, 1, 0);
+    }
+
+    private static void vertex(Matrix4f matrix, VertexConsumer buffer, float x, float y, float u, float v) {
+        buffer.vertex(matrix, x, y, 0)
+            .color(255, 255, 255, 255)
+            .uv(u, v)
+            .overlayCoords(OverlayTexture.NO_OVERLAY)
+            .uv2(LightTexture.FULL_BRIGHT)
+            .normal(0, 1, 0)
+            .endVertex();
+    }
+
+    // Shots belong to the level they were fired in.
+    @Nullable
+    private static ClientLevel currentLevel() {
+        ClientLevel current = Minecraft.getInstance().level;
+        if (current != level) {
+            SHOTS.clear();
+            level = current;
+        }
+        return current;
+    }
+}
@@ -0,0 +1,17 @@
+package tech.alexnijjar.golemoverhaul.common.commands;
+
+import com.mojang.brigadier.CommandDispatcher;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import tech.alexnijjar.golemoverhaul.GolemOverhaul;
+
+public class ModCommands {
+
+    public static void register(CommandDispatcher<CommandSourceStack> dispatcher) {
+        dispatcher.register(Commands.literal(GolemOverhaul.MOD_ID)
+            .requires(source -> source.hasPermission(Commands.LEVEL_GAMEMASTERS))
+            .then(ProfileCommand.create())
+            .then(SummonsCommand.create())
+            .then(PacketsCommand.create()));
+    }
+}
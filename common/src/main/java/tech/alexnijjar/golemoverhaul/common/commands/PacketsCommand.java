@@ -0,0 +1,36 @@
+package tech.alexnijjar.golemoverhaul.common.commands;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import tech.alexnijjar.golemoverhaul.common.constants.ConstantComponents;
+import tech.alexnijjar.golemoverhaul.common.network.PacketRateLimit;
+
+/**
+ * {@code /golemoverhaul packets} reports how many packets each {@link PacketRateLimit} has dropped.
+ */
+public final class PacketsCommand {
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create() {
+        return Commands.literal("packets")
+            .executes(context -> report(context.getSource()))
+            .then(Commands.literal("reset").executes(context -> {
+                for (PacketRateLimit limit : PacketRateLimit.all()) {
+                    limit.resetDropped();
+                }
+                context.getSource().sendSuccess(() -> ConstantComponents.PACKETS_RESET, true);
+                return 1;
+            }));
+    }
+
+    private static int report(CommandSourceStack source) {
+        long total = 0;
+        source.sendSystemMessage(ConstantComponents.PACKETS_DROPPED);
+        for (PacketRateLimit limit : PacketRateLimit.all()) {
+            total += limit.dropped();
+            source.sendSystemMessage(Component.translatable("command.golemoverhaul.packets.limit", limit.name(), limit.dropped()));
+        }
+        return (int) Math.min(total, Integer.MAX_VALUE);
+    }
+}
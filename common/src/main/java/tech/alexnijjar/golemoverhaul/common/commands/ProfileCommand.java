@@ -0,0 +1,90 @@
+package tech.alexnijjar.golemoverhaul.common.commands;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.world.entity.EntityType;
+import tech.alexnijjar.golemoverhaul.common.constants.ConstantComponents;
+import tech.alexnijjar.golemoverhaul.common.profiling.GolemProfiler;
+import tech.alexnijjar.golemoverhaul.common.profiling.TickHistogram;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /golemoverhaul profile} reports the golem types and chunks that took the most tick time, as measured by
+ * {@link GolemProfiler}.
+ */
+public final class ProfileCommand {
+
+    private static final int LIMIT = 10;
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create() {
+        LiteralArgumentBuilder<CommandSourceStack> phases = Commands.literal("phase");
+        for (GolemProfiler.Phase phase : GolemProfiler.Phase.values()) {
+            phases.then(Commands.literal(phase.name().toLowerCase(Locale.ROOT))
+                .executes(context -> reportTypes(context.getSource(), phase)));
+        }
+
+        return Commands.literal("profile")
+            .executes(context -> report(context.getSource()))
+            .then(Commands.literal("start").executes(context -> setEnabled(context.getSource(), true)))
+            .then(Commands.literal("stop").executes(context -> setEnabled(context.getSource(), false)))
+            .then(Commands.literal("reset").executes(context -> {
+                GolemProfiler.reset();
+                context.getSource().sendSuccess(() -> ConstantComponents.PROFILER_RESET, true);
+                return 1;
+            }))
+            .then(phases);
+    }
+
+    private static int setEnabled(CommandSourceStack source, boolean enabled) {
+        GolemProfiler.setEnabled(enabled);
+        source.sendSuccess(() -> enabled ? ConstantComponents.PROFILER_STARTED : ConstantComponents.PROFILER_STOPPED, true);
+        return 1;
+    }
+
+    private static int report(CommandSourceStack source) {
+        int types = reportTypes(source, GolemProfiler.Phase.TICK);
+        if (types == 0) return 0;
+
+        List<GolemProfiler.ChunkStats> chunks = GolemProfiler.topChunks(LIMIT);
+        source.sendSystemMessage(ConstantComponents.PROFILER_TOP_CHUNKS);
+        for (GolemProfiler.ChunkStats chunk : chunks) {
+            source.sendSystemMessage(Component.translatable("command.golemoverhaul.profile.chunk",
+                chunk.dimension().location().toString(),
+                chunk.pos().getMiddleBlockX(),
+                chunk.pos().getMiddleBlockZ(),
+                format(chunk.totalNanos() / 1_000_000.0, 2),
+                EntityType.getKey(chunk.worstType()).toString()));
+        }
+        return types;
+    }
+
+    private static int reportTypes(CommandSourceStack source, GolemProfiler.Phase phase) {
+        List<GolemProfiler.TypeStats> types = GolemProfiler.topTypes(phase, LIMIT);
+        if (types.isEmpty()) {
+            source.sendFailure(GolemProfiler.isEnabled() ? ConstantComponents.PROFILER_NO_DATA : ConstantComponents.PROFILER_NOT_RUNNING);
+            return 0;
+        }
+
+        source.sendSystemMessage(Component.translatable("command.golemoverhaul.profile.top_types", phase.name().toLowerCase(Locale.ROOT)));
+        for (GolemProfiler.TypeStats stats : types) {
+            TickHistogram histogram = stats.histogram();
+            source.sendSystemMessage(Component.translatable("command.golemoverhaul.profile.type",
+                EntityType.getKey(stats.type()).toString(),
+                format(histogram.totalNanos() / 1_000_000.0, 2),
+                histogram.count(),
+                format(histogram.meanNanos() / 1000.0, 1),
+                format(histogram.percentileNanos(0.99) / 1000.0, 1),
+                format(histogram.maxNanos() / 1000.0, 1),
+                histogram.meanBytes()));
+        }
+        return types.size();
+    }
+
+    private static String format(double value, int decimals) {
+        return String.format(Locale.ROOT, "%." + decimals + "f", value);
+    }
+}
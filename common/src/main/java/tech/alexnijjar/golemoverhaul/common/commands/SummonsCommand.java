@@ -0,0 +1,60 @@
+package tech.alexnijjar.golemoverhaul.common.commands;
+
+import com.mojang.brigadier.builder.LiteralArgumentBuilder;
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentUtils;
+import net.minecraft.server.level.ServerLevel;
+import tech.alexnijjar.golemoverhaul.common.config.GolemOverhaulConfig;
+import tech.alexnijjar.golemoverhaul.common.constants.ConstantComponents;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
+import tech.alexnijjar.golemoverhaul.common.level.SummonBudget;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * {@code /golemoverhaul summons} reports how many summoned coal golems each level has and how often summons ran into
+ * the caps of its {@link SummonBudget}.
+ */
+public final class SummonsCommand {
+
+    public static LiteralArgumentBuilder<CommandSourceStack> create() {
+        return Commands.literal("summons")
+            .executes(context -> report(context.getSource()))
+            .then(Commands.literal("reset").executes(context -> {
+                for (ServerLevel level : context.getSource().getServer().getAllLevels()) {
+                    GolemLevelData.of(level).golemoverhaul$getSummonBudget().resetCapHits();
+                }
+                context.getSource().sendSuccess(() -> ConstantComponents.SUMMONS_RESET, true);
+                return 1;
+            }));
+    }
+
+    private static int report(CommandSourceStack source) {
+        source.sendSystemMessage(Component.translatable("command.golemoverhaul.summons.caps",
+            GolemOverhaulConfig.maxSummonsPerChunk,
+            GolemOverhaulConfig.maxSummonsPerPlayer,
+            GolemOverhaulConfig.maxSummonsPerLevel,
+            GolemOverhaulConfig.summonTickTimeBudget));
+
+        int total = 0;
+        for (ServerLevel level : source.getServer().getAllLevels()) {
+            SummonBudget budget = GolemLevelData.of(level).golemoverhaul$getSummonBudget();
+            total += budget.count();
+            List<Component> hits = new ArrayList<>();
+            for (SummonBudget.Limit limit : SummonBudget.Limit.values()) {
+                hits.add(Component.translatable("command.golemoverhaul.summons.limit." + limit.name().toLowerCase(Locale.ROOT), budget.capHits(limit)));
+            }
+            source.sendSystemMessage(Component.translatable("command.golemoverhaul.summons.level",
+                level.dimension().location().toString(),
+                budget.count(),
+                budget.playerCount(),
+                budget.busiestChunkCount(),
+                ComponentUtils.formatList(hits, Component.literal(", "))));
+        }
+        return total;
+    }
+}
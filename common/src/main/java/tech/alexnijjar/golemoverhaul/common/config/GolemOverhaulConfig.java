@@ -1,11 +1,51 @@
 package tech.alexnijjar.golemoverhaul.common.config;
 
+import com.teamresourceful.resourcefulconfig.api.annotations.Comment;
 import com.teamresourceful.resourcefulconfig.api.annotations.Config;
+import com.teamresourceful.resourcefulconfig.api.annotations.ConfigEntry;
 import com.teamresourceful.resourcefulconfig.api.annotations.ConfigInfo;
+import com.teamresourceful.resourcefulconfig.api.annotations.ConfigOption;
+import com.teamresourceful.resourcefulconfig.api.types.options.EntryType;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
 import tech.alexnijjar.golemoverhaul.common.config.info.GolemOverhaulConfigInfo;
 
 @Config(GolemOverhaul.MOD_ID)
 @ConfigInfo.Provider(GolemOverhaulConfigInfo.class)
 public final class GolemOverhaulConfig {
+
+    @ConfigEntry(
+        id = "maxSummonsPerChunk",
+        type = EntryType.INTEGER,
+        translation = "config.golemoverhaul.maxSummonsPerChunk"
+    )
+    @ConfigOption.Range(min = 0, max = 256)
+    @Comment("The most summoned coal golems that can be in one chunk.")
+    public static int maxSummonsPerChunk = 15;
+
+    @ConfigEntry(
+        id = "maxSummonsPerPlayer",
+        type = EntryType.INTEGER,
+        translation = "config.golemoverhaul.maxSummonsPerPlayer"
+    )
+    @ConfigOption.Range(min = 0, max = 256)
+    @Comment("The most summoned coal golems a player riding netherite golems can have in a dimension.")
+    public static int maxSummonsPerPlayer = 20;
+
+    @ConfigEntry(
+        id = "maxSummonsPerLevel",
+        type = EntryType.INTEGER,
+        translation = "config.golemoverhaul.maxSummonsPerLevel"
+    )
+    @ConfigOption.Range(min = 0, max = 4096)
+    @Comment("The most summoned coal golems that can be in one dimension.")
+    public static int maxSummonsPerLevel = 100;
+
+    @ConfigEntry(
+        id = "summonTickTimeBudget",
+        type = EntryType.INTEGER,
+        translation = "config.golemoverhaul.summonTickTimeBudget"
+    )
+    @ConfigOption.Range(min = 0, max = 1000)
+    @Comment("Netherite golems won't summon coal golems while the average server tick takes longer than this many milliseconds. 0 disables the check.")
+    public static int summonTickTimeBudget = 45;
 }
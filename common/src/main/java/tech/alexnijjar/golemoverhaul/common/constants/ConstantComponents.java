@@ -7,4 +7,17 @@ public class ConstantComponents {
     public static final Component NETHERITE_GOLEM_SUMMON_KEY = Component.translatable("key.golemoverhaul.netherite_golem_summon");
     public static final Component GOLEM_OVERHAUL_CATEGORY = Component.translatable("key.categories.golemoverhaul");
     public static final Component GOLEM_CONSTUCTION_CATEGORY = Component.translatable("text.golemoverhaul.golem_construction");
+    public static final Component SUMMON_LIMIT_REACHED = Component.translatable("text.golemoverhaul.summon_limit_reached");
+
+    public static final Component PROFILER_STARTED = Component.translatable("command.golemoverhaul.profile.started");
+    public static final Component PROFILER_STOPPED = Component.translatable("command.golemoverhaul.profile.stopped");
+    public static final Component PROFILER_RESET = Component.translatable("command.golemoverhaul.profile.reset");
+    public static final Component PROFILER_NOT_RUNNING = Component.translatable("command.golemoverhaul.profile.not_running");
+    public static final Component PROFILER_NO_DATA = Component.translatable("command.golemoverhaul.profile.no_data");
+    public static final Component PROFILER_TOP_CHUNKS = Component.translatable("command.golemoverhaul.profile.top_chunks");
+
+    public static final Component SUMMONS_RESET = Component.translatable("command.golemoverhaul.summons.reset");
+
+    public static final Component PACKETS_RESET = Component.translatable("command.golemoverhaul.packets.reset");
+    public static final Component PACKETS_DROPPED = Component.translatable("command.golemoverhaul.packets.dropped");
 }
@@ -0,0 +1,177 @@
+package tech.alexnijjar.golemoverhaul.common.construction;
+
+import com.mojang.logging.LogUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.crafting.RecipeHolder;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.CarvedPumpkinBlock;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.pattern.BlockPattern;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import tech.alexnijjar.golemoverhaul.common.registry.ModRecipeTypes;
+import tech.alexnijjar.golemoverhaul.common.utils.ModUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Spawns golems when the last block of their pattern is placed. Patterns come from golem construction recipes and are
+ * indexed by the blocks that can complete them, so placing any other block costs a single map lookup no matter how many
+ * recipes there are.
+ */
+public final class GolemConstruction {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final GolemPattern.Candidate[] NO_CANDIDATES = new GolemPattern.Candidate[0];
+
+    // Swapped as a whole on reload so a lookup never mixes candidates from old and new patterns.
+    private static volatile Patterns patterns = new Patterns(List.of());
+
+    /**
+     * Replaces the patterns with the golem construction recipes, called whenever recipes are reloaded.
+     */
+    public static void reload(RecipeManager recipes) {
+        List<GolemPattern> compiled = new ArrayList<>();
+        recipes.getAllRecipesFor(ModRecipeTypes.GOLEM_CONSTRUCTION.get())
+            .stream()
+            .sorted(Comparator.comparing(RecipeHolder::id))
+            .forEach(holder -> {
+                try {
+                    compiled.add(holder.value().toPattern());
+                } catch (IllegalArgumentException e) {
+                    LOGGER.error("Skipping golem construction recipe {}: {}", holder.id(), e.getMessage());
+                }
+            });
+        setPatterns(compiled);
+    }
+
+    public static void setPatterns(List<GolemPattern> patterns) {
+        GolemConstruction.patterns = new Patterns(List.copyOf(patterns));
+    }
+
+    /**
+     * Called for blocks placed by an entity. Carved pumpkins are skipped as they already try to spawn golems when
+     * placed.
+     */
+    public static void onBlockPlaced(Level level, BlockPos pos, BlockState state) {
+        if (state.getBlock() instanceof CarvedPumpkinBlock) return;
+        tryConstruct(level, pos, state);
+    }
+
+    /**
+     * Tries to spawn a golem from a pattern completed by the block at the given position.
+     *
+     * @return Whether a golem was spawned.
+     */
+    public static boolean tryConstruct(Level level, BlockPos pos) {
+        return tryConstruct(level, pos, level.getBlockState(pos));
+    }
+
+    private static boolean tryConstruct(Level level, BlockPos pos, BlockState state) {
+        if (level.isClientSide()) return false;
+        GolemPattern.Candidate candidate = find(level, pos, state);
+        return candidate != null && spawn(level, pos, candidate);
+    }
+
+    /**
+     * Finds the pattern completed by the block at the given position without spawning anything.
+     *
+     * @return The completed pattern, or null if there is none.
+     */
+    @Nullable
+    public static GolemPattern findPattern(BlockGetter level, BlockPos pos) {
+        GolemPattern.Candidate candidate = find(level, pos, level.getBlockState(pos));
+        return candidate == null ? null : candidate.pattern();
+    }
+
+    @Nullable
+    private static GolemPattern.Candidate find(BlockGetter level, BlockPos pos, BlockState state) {
+        GolemPattern.Candidate[] candidates = candidates(state.getBlock());
+        if (candidates.length == 0) return null;
+
+        // Orientations share most of their cells, so states are only looked up once per placement.
+        Long2ObjectMap<BlockState> states = new Long2ObjectOpenHashMap<>();
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (GolemPattern.Candidate candidate : candidates) {
+            if (matches(level, pos, candidate, states, cursor)) return candidate;
+        }
+        return null;
+    }
+
+    private static GolemPattern.Candidate[] candidates(Block block) {
+        return patterns.candidates(block);
+    }
+
+    private static boolean matches(BlockGetter level, BlockPos pos, GolemPattern.Candidate candidate, Long2ObjectMap<BlockState> states, BlockPos.MutableBlockPos cursor) {
+        int[] offsets = candidate.offsets();
+        Predicate<BlockState>[] predicates = candidate.predicates();
+        for (int i = 0; i < predicates.length; i++) {
+            cursor.setWithOffset(pos, offsets[i * 3], offsets[i * 3 + 1], offsets[i * 3 + 2]);
+            long key = cursor.asLong();
+            BlockState state = states.get(key);
+            if (state == null) {
+                state = level.getBlockState(cursor);
+                states.put(key, state);
+            }
+            if (!predicates[i].test(state)) return false;
+        }
+        return true;
+    }
+
+    private static boolean spawn(Level level, BlockPos pos, GolemPattern.Candidate candidate) {
+        GolemPattern pattern = candidate.pattern();
+        Entity golem = pattern.entity().get().create(level);
+        if (golem == null) return false;
+        var match = new BlockPattern.BlockPatternMatch(
+            pos.offset(candidate.origin()),
+            candidate.forwards(),
+            candidate.up(),
+            BlockPattern.createLevelCache(level, false),
+            pattern.width(),
+            pattern.height(),
+            1);
+        ModUtils.spawnGolemInWorld(level, match, golem, match.getBlock(pattern.width() / 2, pattern.height() - 1, 0).getPos());
+        return true;
+    }
+
+    /**
+     * The loaded patterns and the candidates compiled from them. Candidates are compiled lazily per block as tags aren't
+     * bound yet when recipes are loaded, and the map is concurrent since both the server and the client look patterns up.
+     * Trigger predicates are expected to only depend on the block.
+     */
+    private record Patterns(List<GolemPattern> patterns, Map<Block, GolemPattern.Candidate[]> candidates) {
+
+        private Patterns(List<GolemPattern> patterns) {
+            this(patterns, new ConcurrentHashMap<>());
+        }
+
+        private GolemPattern.Candidate[] candidates(Block block) {
+            GolemPattern.Candidate[] candidates = this.candidates.get(block);
+            if (candidates == null) {
+                candidates = this.candidates.computeIfAbsent(block, this::compile);
+            }
+            return candidates;
+        }
+
+        private GolemPattern.Candidate[] compile(Block block) {
+            BlockState state = block.defaultBlockState();
+            List<GolemPattern.Candidate> compiled = new ArrayList<>();
+            for (GolemPattern pattern : this.patterns) {
+                compiled.addAll(pattern.compile(state));
+            }
+            return compiled.isEmpty() ? NO_CANDIDATES : compiled.toArray(GolemPattern.Candidate[]::new);
+        }
+    }
+}
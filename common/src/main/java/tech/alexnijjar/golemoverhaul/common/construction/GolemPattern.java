@@ -0,0 +1,150 @@
+package tech.alexnijjar.golemoverhaul.common.construction;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.pattern.BlockPattern;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A single layer of blocks that turns into a golem when completed. Unlike a {@link BlockPattern}, every orientation is
+ * compiled up front into lists of offsets relative to the block that completed the pattern.
+ *
+ * @param rows     The rows of the pattern, from top to bottom.
+ * @param key      The predicate for each character in the rows.
+ * @param triggers The characters whose blocks complete the pattern when placed.
+ * @param entity   The golem that is spawned.
+ */
+public record GolemPattern(
+    List<String> rows,
+    Map<Character, Predicate<BlockState>> key,
+    Set<Character> triggers,
+    Supplier<? extends EntityType<?>> entity
+) {
+
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+
+    public GolemPattern {
+        if (rows.isEmpty() || rows.get(0).isEmpty()) {
+            throw new IllegalArgumentException("Golem pattern can't be empty");
+        }
+        int width = rows.get(0).length();
+        for (String row : rows) {
+            if (row.length() != width) {
+                throw new IllegalArgumentException("Golem pattern rows must all be the same width");
+            }
+            for (char c : row.toCharArray()) {
+                if (!key.containsKey(c)) {
+                    throw new IllegalArgumentException("Golem pattern references undefined symbol '" + c + "'");
+                }
+            }
+        }
+    }
+
+    public int width() {
+        return rows.get(0).length();
+    }
+
+    public int height() {
+        return rows.size();
+    }
+
+    public Predicate<BlockState> predicate(int x, int y) {
+        return key.get(rows.get(y).charAt(x));
+    }
+
+    /**
+     * Compiles a candidate for every orientation and every trigger cell that accepts the given state.
+     */
+    List<Candidate> compile(BlockState trigger) {
+        List<Candidate> candidates = new ArrayList<>();
+        for (int y = 0; y < height(); y++) {
+            for (int x = 0; x < width(); x++) {
+                char c = rows.get(y).charAt(x);
+                if (!triggers.contains(c) || !key.get(c).test(trigger)) continue;
+                for (Direction forwards : Direction.values()) {
+                    for (Direction up : Direction.values()) {
+                        if (up.getAxis() == forwards.getAxis()) continue;
+                        candidates.add(compile(forwards, up, x, y));
+                    }
+                }
+            }
+        }
+        return candidates;
+    }
+
+    private Candidate compile(Direction forwards, Direction up, int triggerX, int triggerY) {
+        BlockPos trigger = rotate(forwards, up, triggerX, triggerY);
+        List<Check> checks = new ArrayList<>();
+        for (int y = 0; y < height(); y++) {
+            for (int x = 0; x < width(); x++) {
+                if (x == triggerX && y == triggerY) continue;
+                BlockPos pos = rotate(forwards, up, x, y).subtract(trigger);
+                int distance = Math.abs(x - triggerX) + Math.abs(y - triggerY);
+                checks.add(new Check(pos.getX(), pos.getY(), pos.getZ(), distance, predicate(x, y)));
+            }
+        }
+
+        // Blocks next to the trigger are checked first so most placements are rejected with a single lookup.
+        // Air is a weak signal, so solid blocks come before it.
+        checks.sort(Comparator
+            .comparing((Check check) -> check.predicate().test(AIR))
+            .thenComparingInt(Check::distance));
+
+        int size = checks.size();
+        int[] offsets = new int[size * 3];
+        @SuppressWarnings("unchecked")
+        Predicate<BlockState>[] predicates = new Predicate[size];
+        for (int i = 0; i < size; i++) {
+            Check check = checks.get(i);
+            offsets[i * 3] = check.x();
+            offsets[i * 3 + 1] = check.y();
+            offsets[i * 3 + 2] = check.z();
+            predicates[i] = check.predicate();
+        }
+
+        BlockPos origin = BlockPos.ZERO.subtract(trigger);
+        return new Candidate(this, forwards, up, origin, offsets, predicates);
+    }
+
+    /**
+     * The position of a cell relative to the top left corner of the pattern, matching the layout
+     * {@link BlockPattern} uses: rows go against {@code up} and columns along {@code up} crossed with {@code forwards}.
+     */
+    private static BlockPos rotate(Direction forwards, Direction up, int x, int y) {
+        int rightX = forwards.getStepY() * up.getStepZ() - forwards.getStepZ() * up.getStepY();
+        int rightY = forwards.getStepZ() * up.getStepX() - forwards.getStepX() * up.getStepZ();
+        int rightZ = forwards.getStepX() * up.getStepY() - forwards.getStepY() * up.getStepX();
+        return new BlockPos(
+            rightX * x - up.getStepX() * y,
+            rightY * x - up.getStepY() * y,
+            rightZ * x - up.getStepZ() * y);
+    }
+
+    private record Check(int x, int y, int z, int distance, Predicate<BlockState> predicate) {}
+
+    /**
+     * One orientation of a pattern, anchored on one of its trigger cells.
+     *
+     * @param origin     The offset from the trigger block to the top left corner of the pattern.
+     * @param offsets    Packed x, y, z offsets from the trigger block for every other cell.
+     * @param predicates The predicate for each cell in {@code offsets}.
+     */
+    record Candidate(
+        GolemPattern pattern,
+        Direction forwards,
+        Direction up,
+        BlockPos origin,
+        int[] offsets,
+        Predicate<BlockState>[] predicates
+    ) {}
+}
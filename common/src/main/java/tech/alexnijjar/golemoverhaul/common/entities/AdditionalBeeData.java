@@ -1,5 +1,8 @@
 package tech.alexnijjar.golemoverhaul.common.entities;
 
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
+
 import java.util.UUID;
 
 public interface AdditionalBeeData {
@@ -8,5 +11,19 @@ public interface AdditionalBeeData {
 
     void golemoverhaul$setOwner(UUID owner);
 
+    void golemoverhaul$setOwnerGolem(HoneyGolem owner);
+
+    /**
+     * @return The loaded honey golem this bee belongs to, or null if it has none or it isn't loaded.
+     */
+    @Nullable
+    HoneyGolem golemoverhaul$getOwnerGolem();
+
+    /**
+     * @return Whether the honey golem this bee belongs to has died or been removed for good, as opposed to just not
+     * being loaded.
+     */
+    boolean golemoverhaul$isOwnerGone();
+
     boolean hasGolemHive();
 }
@@ -0,0 +1,80 @@
+package tech.alexnijjar.golemoverhaul.common.entities;
+
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
+
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+
+/**
+ * A weak handle to the honey golem a bee lives in. The golem is only looked up by its UUID again once the cached
+ * golem has been removed, unloaded or moved to another dimension, and failed lookups are throttled.
+ */
+public class HoneyGolemHandle {
+
+    private static final int LOOKUP_COOLDOWN_TICKS = 20;
+
+    private final UUID id;
+    private WeakReference<HoneyGolem> golem;
+    private long nextLookupTime;
+    private boolean gone;
+
+    public HoneyGolemHandle(UUID id) {
+        this.id = id;
+        this.golem = new WeakReference<>(null);
+    }
+
+    public HoneyGolemHandle(HoneyGolem golem) {
+        this.id = golem.getUUID();
+        this.golem = new WeakReference<>(golem);
+    }
+
+    public UUID id() {
+        return this.id;
+    }
+
+    /**
+     * @return Whether the golem was seen dying or being removed for good. A golem that just can't be found, like when
+     * its chunk is unloaded or the lookup is throttled, doesn't count.
+     */
+    public boolean isGone() {
+        return this.gone;
+    }
+
+    @Nullable
+    public HoneyGolem resolve(ServerLevel level) {
+        if (this.gone) return null;
+        HoneyGolem golem = this.golem.get();
+        if (golem != null) {
+            if (isGone(golem)) {
+                this.gone = true;
+                this.golem = new WeakReference<>(null);
+                return null;
+            }
+            if (!golem.isRemoved() && golem.level() == level) return golem;
+            this.golem = new WeakReference<>(null);
+            this.nextLookupTime = 0;
+        }
+
+        long time = level.getGameTime();
+        if (time < this.nextLookupTime) return null;
+        this.nextLookupTime = time + LOOKUP_COOLDOWN_TICKS;
+
+        if (level.getEntity(this.id) instanceof HoneyGolem found) {
+            if (isGone(found)) {
+                this.gone = true;
+                return null;
+            }
+            this.golem = new WeakReference<>(found);
+            return found;
+        }
+        return null;
+    }
+
+    private static boolean isGone(HoneyGolem golem) {
+        Entity.RemovalReason reason = golem.getRemovalReason();
+        return golem.isDeadOrDying() || (reason != null && reason.shouldDestroy());
+    }
+}
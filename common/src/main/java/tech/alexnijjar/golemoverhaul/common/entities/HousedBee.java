@@ -0,0 +1,213 @@
+package tech.alexnijjar.golemoverhaul.common.entities;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtUtils;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.animal.Bee;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.utils.PlatformUtils;
+import tech.alexnijjar.golemoverhaul.mixins.common.BeeAccessor;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A bee stored inside a honey golem. Only the state that survives a stay in the golem is kept, read straight off the
+ * bee, as anything else a bee saves is either reset on release or always written with default values. Bees carrying
+ * state that isn't known, like passengers, effects or data attached by other mods, are also saved in full and the
+ * unknown keys are kept in an opaque tag that is loaded back onto the bee when it is released.
+ * <p>
+ * Nectar isn't kept, since the golem takes it from the bee as it enters, and neither is health, since the golem heals
+ * bees fully as they leave.
+ */
+public final class HousedBee {
+
+    private static final Set<String> STRIPPED_KEYS = Set.of(
+        // Entity
+        "Pos", "Motion", "Rotation", "FallDistance", "Fire", "Air", "OnGround", "Invulnerable", "PortalCooldown",
+        "UUID", "CustomName", "CustomNameVisible", "Silent", "NoGravity", "Glowing", "TicksFrozen", "HasVisualFire",
+        // LivingEntity
+        "Health", "HurtTime", "HurtByTimestamp", "DeathTime", "AbsorptionAmount", "attributes", "FallFlying", "Brain",
+        "SleepingX", "SleepingY", "SleepingZ",
+        // Mob
+        "CanPickUpLoot", "PersistenceRequired", "ArmorItems", "HandItems", "ArmorDropChances", "HandDropChances",
+        "body_armor_item", "body_armor_drop_chance", "LeftHanded", "NoAI",
+        // AgeableMob and Animal
+        "Age", "ForcedAge", "InLove", "LoveCause",
+        // Bee
+        "AngerTime", "AngryAt", "hive_pos", "flower_pos", "HasNectar", "HasStung", "TicksSincePollination",
+        "CannotEnterHiveTicks", "CropsGrownSincePollination", "HoneyGolemOwner");
+
+    private final UUID id;
+    @Nullable
+    private final UUID owner;
+    private final int age;
+    private final int angerTime;
+    @Nullable
+    private final UUID angryAt;
+    @Nullable
+    private final String customName;
+    @Nullable
+    private final BlockPos hivePos;
+    @Nullable
+    private final BlockPos flowerPos;
+    @Nullable
+    private final CompoundTag extraData;
+
+    private final int minOccupationTicks;
+    private int ticks;
+
+    private HousedBee(UUID id, @Nullable UUID owner, int age, int angerTime, @Nullable UUID angryAt, @Nullable String customName, @Nullable BlockPos hivePos, @Nullable BlockPos flowerPos, @Nullable CompoundTag extraData, int ticks, int minOccupationTicks) {
+        this.id = id;
+        this.owner = owner;
+        this.age = age;
+        this.angerTime = angerTime;
+        this.angryAt = angryAt;
+        this.customName = customName;
+        this.hivePos = hivePos;
+        this.flowerPos = flowerPos;
+        this.extraData = extraData;
+        this.ticks = ticks;
+        this.minOccupationTicks = minOccupationTicks;
+    }
+
+    /**
+     * Creates a new adult bee that has never existed in the level.
+     */
+    public static HousedBee create(RandomSource random, @Nullable UUID owner, int minOccupationTicks) {
+        return new HousedBee(Mth.createInsecureUUID(random), owner, 0, 0, null, null, null, null, null, 0, minOccupationTicks);
+    }
+
+    public static HousedBee capture(Bee bee, int minOccupationTicks) {
+        CompoundTag extraData = hasForeignData(bee) ? stripKnownData(bee.saveWithoutId(new CompoundTag())) : null;
+        Component name = bee.getCustomName();
+        return new HousedBee(
+            bee.getUUID(),
+            ((AdditionalBeeData) bee).golemoverhaul$getOwner(),
+            bee.getAge(),
+            bee.getRemainingPersistentAngerTime(),
+            bee.getPersistentAngerTarget(),
+            name == null ? null : Component.Serializer.toJson(name, bee.registryAccess()),
+            bee.getHivePos(),
+            bee.getSavedFlowerPos(),
+            extraData,
+            0,
+            minOccupationTicks);
+    }
+
+    /**
+     * @return Whether the bee has state the known fields don't cover and has to be saved in full to keep it.
+     */
+    private static boolean hasForeignData(Bee bee) {
+        return bee.isVehicle()
+            || bee.isPassenger()
+            || bee.isLeashed()
+            || !bee.getTags().isEmpty()
+            || !bee.getActiveEffects().isEmpty()
+            || PlatformUtils.hasAttachedData(bee);
+    }
+
+    @Nullable
+    public Bee release(ServerLevel level) {
+        Bee bee = EntityType.BEE.create(level);
+        if (bee == null) return null;
+        if (this.extraData != null) {
+            CompoundTag tag = bee.saveWithoutId(new CompoundTag());
+            tag.merge(this.extraData);
+            bee.load(tag);
+        }
+        bee.setUUID(this.id);
+        bee.setAge(this.age);
+        bee.setRemainingPersistentAngerTime(this.angerTime);
+        bee.setPersistentAngerTarget(this.angryAt);
+        if (this.customName != null) {
+            try {
+                bee.setCustomName(Component.Serializer.fromJson(this.customName, level.registryAccess()));
+            } catch (Exception ignored) {
+            }
+        }
+        ((BeeAccessor) bee).setHivePos(this.hivePos);
+        bee.setSavedFlowerPos(this.flowerPos);
+        ((AdditionalBeeData) bee).golemoverhaul$setOwner(this.owner);
+        return bee;
+    }
+
+    public int ticks() {
+        return this.ticks;
+    }
+
+    /**
+     * Advances the time spent inside the golem.
+     *
+     * @return Whether the bee is ready to leave.
+     */
+    public boolean tick(int ticks) {
+        this.ticks += ticks;
+        return this.ticks >= this.minOccupationTicks;
+    }
+
+    public CompoundTag save() {
+        CompoundTag tag = new CompoundTag();
+        tag.putUUID("UUID", this.id);
+        if (this.owner != null) tag.putUUID("Owner", this.owner);
+        if (this.age != 0) tag.putInt("Age", this.age);
+        if (this.angerTime != 0) tag.putInt("AngerTime", this.angerTime);
+        if (this.angryAt != null) tag.putUUID("AngryAt", this.angryAt);
+        if (this.customName != null) tag.putString("CustomName", this.customName);
+        if (this.hivePos != null) tag.putLong("HivePos", this.hivePos.asLong());
+        if (this.flowerPos != null) tag.putLong("FlowerPos", this.flowerPos.asLong());
+        if (this.extraData != null) tag.put("ExtraData", this.extraData);
+        tag.putInt("TicksInHive", this.ticks);
+        tag.putInt("MinOccupationTicks", this.minOccupationTicks);
+        return tag;
+    }
+
+    public static HousedBee load(CompoundTag tag) {
+        int ticks = tag.getInt("TicksInHive");
+        int minOccupationTicks = tag.getInt("MinOccupationTicks");
+        if (tag.contains("EntityData")) {
+            return loadLegacy(tag.getCompound("EntityData"), ticks, minOccupationTicks);
+        }
+        return new HousedBee(
+            tag.getUUID("UUID"),
+            tag.hasUUID("Owner") ? tag.getUUID("Owner") : null,
+            tag.getInt("Age"),
+            tag.getInt("AngerTime"),
+            tag.hasUUID("AngryAt") ? tag.getUUID("AngryAt") : null,
+            tag.contains("CustomName") ? tag.getString("CustomName") : null,
+            tag.contains("HivePos") ? BlockPos.of(tag.getLong("HivePos")) : null,
+            tag.contains("FlowerPos") ? BlockPos.of(tag.getLong("FlowerPos")) : null,
+            tag.contains("ExtraData") ? tag.getCompound("ExtraData") : null,
+            ticks,
+            minOccupationTicks);
+    }
+
+    // Golems saved before bees were stored compactly kept the full entity tag.
+    private static HousedBee loadLegacy(CompoundTag data, int ticks, int minOccupationTicks) {
+        return new HousedBee(
+            data.hasUUID("UUID") ? data.getUUID("UUID") : UUID.randomUUID(),
+            data.hasUUID("HoneyGolemOwner") ? data.getUUID("HoneyGolemOwner") : null,
+            data.getInt("Age"),
+            data.getInt("AngerTime"),
+            data.hasUUID("AngryAt") ? data.getUUID("AngryAt") : null,
+            data.contains("CustomName") ? data.getString("CustomName") : null,
+            NbtUtils.readBlockPos(data, "hive_pos").orElse(null),
+            NbtUtils.readBlockPos(data, "flower_pos").orElse(null),
+            stripKnownData(data.copy()),
+            ticks,
+            minOccupationTicks);
+    }
+
+    @Nullable
+    private static CompoundTag stripKnownData(CompoundTag tag) {
+        for (String key : STRIPPED_KEYS) {
+            tag.remove(key);
+        }
+        return tag.isEmpty() ? null : tag;
+    }
+}
@@ -1,6 +1,5 @@
 package tech.alexnijjar.golemoverhaul.common.entities.goals;
 
-import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Bee;
 import org.jetbrains.annotations.Nullable;
@@ -8,8 +7,6 @@ import tech.alexnijjar.golemoverhaul.common.entities.AdditionalBeeData;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
 import tech.alexnijjar.golemoverhaul.mixins.common.BeeAccessor;
 
-import java.util.UUID;
-
 public class GoToHoneyGolemHiveGoal extends Goal {
 
     private final Bee bee;
@@ -67,12 +64,6 @@ public class GoToHoneyGolemHiveGoal extends Goal {
 
     @Nullable
     private HoneyGolem findHive() {
-        UUID owner = ((AdditionalBeeData) bee).golemoverhaul$getOwner();
-        if (owner != null && bee.level() instanceof ServerLevel level) {
-            if (level.getEntity(owner) instanceof HoneyGolem golem) {
-                return golem;
-            }
-        }
-        return null;
+        return ((AdditionalBeeData) bee).golemoverhaul$getOwnerGolem();
     }
 }
@@ -7,8 +7,6 @@ import org.jetbrains.annotations.Nullable;
 import tech.alexnijjar.golemoverhaul.common.entities.AdditionalBeeData;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
 
-import java.util.UUID;
-
 public class HealHoneyGolemGoal extends Goal {
 
     private final Bee bee;
@@ -53,17 +51,17 @@ public class HealHoneyGolemGoal extends Goal {
     private HoneyGolem findTarget() {
         if (target != null) return target;
 
-        UUID owner = ((AdditionalBeeData) bee).golemoverhaul$getOwner();
-        if (owner != null && bee.level() instanceof ServerLevel level) {
-            if (level.getEntity(owner) instanceof HoneyGolem golem) {
+        AdditionalBeeData data = (AdditionalBeeData) bee;
+        if (data.hasGolemHive()) {
+            HoneyGolem golem = data.golemoverhaul$getOwnerGolem();
+            if (golem != null) {
                 this.target = golem;
-            } else {
-                ((AdditionalBeeData) bee).golemoverhaul$setOwner(null);
+            } else if (data.golemoverhaul$isOwnerGone()) {
+                // Otherwise the golem is only unloaded or the lookup was throttled, and the bee keeps its hive.
+                data.golemoverhaul$setOwner(null);
             }
-        } else {
-            target = bee.level().getEntitiesOfClass(HoneyGolem.class, bee.getBoundingBox().inflate(128))
-                .stream().min((g1, g2) -> Double.compare(bee.distanceTo(g1), bee.distanceTo(g2)))
-                .orElse(null);
+        } else if (bee.level() instanceof ServerLevel level) {
+            target = HoneyGolem.findNearestHive(level, bee);
         }
         return target;
     }
@@ -1,5 +1,6 @@
 package tech.alexnijjar.golemoverhaul.common.entities.goals;
 
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.ai.goal.Goal;
 import net.minecraft.world.entity.animal.Bee;
 import org.jetbrains.annotations.Nullable;
@@ -33,14 +34,15 @@ public class LocateHoneyGolemHiveGoal extends Goal {
 
         HoneyGolem golem = findHive();
         if (golem != null) {
-            ((AdditionalBeeData) bee).golemoverhaul$setOwner(golem.getUUID());
+            ((AdditionalBeeData) bee).golemoverhaul$setOwnerGolem(golem);
         }
     }
 
     @Nullable
     private HoneyGolem findHive() {
-        return bee.level().getEntitiesOfClass(HoneyGolem.class, bee.getBoundingBox().inflate(128))
-            .stream().min((g1, g2) -> Double.compare(bee.distanceTo(g1), bee.distanceTo(g2)))
-            .orElse(null);
+        if (bee.level() instanceof ServerLevel level) {
+            return HoneyGolem.findNearestHive(level, bee);
+        }
+        return null;
     }
 }
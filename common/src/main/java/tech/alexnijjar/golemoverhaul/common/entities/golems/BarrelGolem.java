@@ -1,10 +1,11 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
@@ -13,6 +14,7 @@ import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.DamageTypeTags;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.world.DifficultyInstance;
+import net.minecraft.world.Container;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.damagesource.DamageSource;
@@ -23,6 +25,7 @@ import net.minecraft.world.entity.ai.behavior.BehaviorUtils;
 import net.minecraft.world.entity.ai.goal.PanicGoal;
 import net.minecraft.world.entity.ai.util.LandRandomPos;
 import net.minecraft.world.entity.animal.AbstractGolem;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.entity.projectile.AbstractArrow;
 import net.minecraft.world.item.ItemStack;
@@ -30,12 +33,10 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.level.GameRules;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.level.storage.loot.LootParams;
+import net.minecraft.world.level.block.entity.DispenserBlockEntity;
+import net.minecraft.world.level.block.entity.HopperBlockEntity;
 import net.minecraft.world.level.storage.loot.LootTable;
-import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
-import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 import net.minecraft.world.phys.Vec3;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.AnimatableManager;
 import software.bernie.geckolib.animation.AnimationController;
@@ -44,27 +45,70 @@ import software.bernie.geckolib.animation.PlayState;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.loot.BarterTable;
 import tech.alexnijjar.golemoverhaul.common.registry.ModSoundEvents;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
 
 public class BarrelGolem extends BaseGolem {
 
     public static final ResourceKey<LootTable> BARTERING_LOOT = ResourceKey.create(Registries.LOOT_TABLE, new ResourceLocation(GolemOverhaul.MOD_ID, "gameplay/barrel_golem_bartering"));
+    private static final BarterTable BARTER_TABLE = new BarterTable(BARTERING_LOOT);
 
     public static final byte CHANGE_STATE_EVENT_ID = 8;
     public static final byte BARTER_EVENT_ID = 9;
 
     public static final int WAKE_UP_TICKS = 53;
     public static final int BARTERING_TICKS = 78;
+    public static final int MAX_QUEUED_BARTERS = 16;
+    public static final int MAX_BARTERS_PER_BATCH = 8;
+
+    private static final GolemState.Flag OPEN = GolemState.Flag.bit(0);
+
+    private static final GolemFields<BarrelGolem> FIELDS = GolemFields.<BarrelGolem>builder()
+        .bool("Open", BarrelGolem::isOpen, (golem, open) -> golem.setState(OPEN, open))
+        .integer("ChangeStateTicks", 0, 1600, golem -> golem.changeStateTicks, (golem, ticks) -> golem.changeStateTicks = ticks)
+        .field(new GolemFields.Field<>() {
+            @Override
+            public void save(BarrelGolem golem, CompoundTag tag) {
+                ListTag barters = new ListTag();
+                // A batch that hasn't finished yet is queued again.
+                if (golem.batchSize > 0) barters.add(saveBarters(golem.batchPayer, golem.batchSize));
+                for (QueuedBarters queued : golem.queuedBarters) {
+                    barters.add(saveBarters(queued.payer(), queued.count()));
+                }
+                tag.put("QueuedBarters", barters);
+            }
 
-    private static final EntityDataAccessor<Boolean> ID_OPEN = SynchedEntityData.defineId(BarrelGolem.class, EntityDataSerializers.BOOLEAN);
+            @Override
+            public void load(BarrelGolem golem, CompoundTag tag) {
+                ListTag barters = tag.getList("QueuedBarters", Tag.TAG_COMPOUND);
+                for (int i = 0; i < barters.size(); i++) {
+                    CompoundTag barter = barters.getCompound(i);
+                    int count = Math.min(barter.getInt("Count"), MAX_QUEUED_BARTERS + MAX_BARTERS_PER_BATCH - golem.queuedBarterCount);
+                    golem.addBarters(barter.hasUUID("Payer") ? barter.getUUID("Payer") : null, count);
+                }
+            }
+        })
+        .build();
 
     private int changeStateTicks = this.getRandomChangeInterval();
     private int barteringTicks;
+    // Barters in the order they were paid for, with consecutive barters from the same payer merged.
+    private final Deque<QueuedBarters> queuedBarters = new ArrayDeque<>();
+    private int queuedBarterCount;
 
+    private int batchSize;
+    // The player that paid for every barter in the current batch, or null if they were automated.
     @Nullable
-    private Player barteringTarget;
+    private UUID batchPayer;
 
     public BarrelGolem(EntityType<? extends AbstractGolem> type, Level level) {
         super(type, level);
@@ -124,28 +168,24 @@ public class BarrelGolem extends BaseGolem {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_OPEN, true);
+    public boolean canBeCollidedWith() {
+        return this.isAlive() && !this.isOpen();
     }
 
     @Override
-    public boolean canBeCollidedWith() {
-        return this.isAlive() && !this.isOpen();
+    protected int getDefaultState() {
+        return OPEN.set(super.getDefaultState(), true);
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putBoolean("Open", this.isOpen());
-        compound.putInt("ChangeStateTicks", this.changeStateTicks);
+    protected GolemFields<BarrelGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setOpen(compound.getBoolean("Open"), false);
-        this.changeStateTicks = compound.getInt("ChangeStateTicks");
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        this.updateKnockbackResistance();
     }
 
     @Override
@@ -160,7 +200,7 @@ public class BarrelGolem extends BaseGolem {
     }
 
     public boolean isOpen() {
-        return this.entityData.get(ID_OPEN);
+        return this.getState(OPEN);
     }
 
     public boolean isBartering() {
@@ -181,9 +221,12 @@ public class BarrelGolem extends BaseGolem {
             }
         }
 
-        this.entityData.set(ID_OPEN, open);
+        this.setState(OPEN, open);
+        this.updateKnockbackResistance();
+    }
 
-        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(open ? 0 : 1);
+    private void updateKnockbackResistance() {
+        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(this.isOpen() ? 0 : 1);
     }
 
     @Override
@@ -266,18 +309,90 @@ public class BarrelGolem extends BaseGolem {
             }
 
             if (this.barteringTicks == 24) {
-                throwItems(getBarterResponseItems());
-                ExperienceOrb orb = new ExperienceOrb(level(), this.getX(), this.getY(), this.getZ(), this.getRandom().nextInt(2) + 2);
-                level().addFreshEntity(orb);
-                if (this.barteringTarget != null) {
-                    Vec3 targetPos = this.barteringTarget.position().subtract(this.position());
-                    targetPos = targetPos.normalize().multiply(0.3, 0.3, 0.3);
-                    orb.setDeltaMovement(targetPos);
-                }
-                this.barteringTarget = null;
-                this.setItemInHand(InteractionHand.MAIN_HAND, ItemStack.EMPTY);
+                finishBarters();
+            }
+
+            if (this.queuedBarterCount > 0 && isOpen() && !isBartering()) {
+                startBarters();
+            }
+        }
+    }
+
+    /**
+     * Starts bartering for as many queued emeralds as fit in a batch, which share a single animation. A batch only
+     * takes barters from a single payer, so player trades are never handed out with automated ones.
+     */
+    private void startBarters() {
+        QueuedBarters next = this.queuedBarters.removeFirst();
+        this.batchSize = Math.min(next.count(), MAX_BARTERS_PER_BATCH);
+        this.batchPayer = next.payer();
+        this.queuedBarterCount -= this.batchSize;
+        if (next.count() > this.batchSize) {
+            this.queuedBarters.addFirst(new QueuedBarters(next.payer(), next.count() - this.batchSize));
+        }
+        this.setItemInHand(InteractionHand.MAIN_HAND, new ItemStack(Items.EMERALD));
+        this.barter();
+    }
+
+    private void finishBarters() {
+        List<ItemStack> loot = new ArrayList<>();
+        int experience = 0;
+        for (int i = 0; i < this.batchSize; i++) {
+            for (ItemStack stack : getBarterResponseItems()) {
+                mergeStack(loot, stack);
+            }
+            experience += this.getRandom().nextInt(2) + 2;
+        }
+        boolean automated = this.batchPayer == null;
+        Player payer = automated ? null : level().getPlayerByUUID(this.batchPayer);
+        this.batchSize = 0;
+        this.batchPayer = null;
+
+        // Loot for players is thrown to them, automated trades fill adjacent containers first.
+        throwItems(payer, automated ? insertIntoAdjacentContainers(loot) : loot);
+
+        if (experience > 0) {
+            ExperienceOrb orb = new ExperienceOrb(level(), this.getX(), this.getY(), this.getZ(), experience);
+            level().addFreshEntity(orb);
+            if (payer != null) {
+                Vec3 targetPos = payer.position().subtract(this.position());
+                targetPos = targetPos.normalize().multiply(0.3, 0.3, 0.3);
+                orb.setDeltaMovement(targetPos);
+            }
+        }
+        this.setItemInHand(InteractionHand.MAIN_HAND, ItemStack.EMPTY);
+    }
+
+    private static void mergeStack(List<ItemStack> stacks, ItemStack stack) {
+        for (ItemStack existing : stacks) {
+            if (ItemStack.isSameItemSameComponents(existing, stack)) {
+                int moved = Math.min(stack.getCount(), existing.getMaxStackSize() - existing.getCount());
+                existing.grow(moved);
+                stack.shrink(moved);
+                if (stack.isEmpty()) return;
+            }
+        }
+        stacks.add(stack);
+    }
+
+    /**
+     * Dispensers and droppers are skipped, as they're what feeds the golem its emeralds and would fire the loot
+     * instead.
+     *
+     * @return The stacks that didn't fit.
+     */
+    private List<ItemStack> insertIntoAdjacentContainers(List<ItemStack> stacks) {
+        BlockPos pos = this.blockPosition();
+        for (Direction direction : Direction.values()) {
+            Container container = HopperBlockEntity.getContainerAt(level(), pos.relative(direction));
+            if (container == null || container instanceof DispenserBlockEntity) continue;
+            for (int i = 0; i < stacks.size(); i++) {
+                stacks.set(i, HopperBlockEntity.addItem(null, container, stacks.get(i), direction.getOpposite()));
             }
+            stacks.removeIf(ItemStack::isEmpty);
+            if (stacks.isEmpty()) break;
         }
+        return stacks;
     }
 
     @Override
@@ -306,6 +421,33 @@ public class BarrelGolem extends BaseGolem {
         return 800 + this.getRandom().nextInt(800);
     }
 
+    public boolean canQueueBarter() {
+        return this.isAlive() && this.isOpen() && this.queuedBarterCount < MAX_QUEUED_BARTERS;
+    }
+
+    /**
+     * Queues up to the given number of barters, each paid for with an emerald.
+     *
+     * @param payer The player that paid, whose loot is thrown to them, or null for automated barters.
+     * @return How many barters were queued.
+     */
+    public int queueBarters(int count, @Nullable UUID payer) {
+        int queued = Math.max(0, Math.min(count, MAX_QUEUED_BARTERS - this.queuedBarterCount));
+        addBarters(payer, queued);
+        return queued;
+    }
+
+    private void addBarters(@Nullable UUID payer, int count) {
+        if (count <= 0) return;
+        QueuedBarters last = this.queuedBarters.peekLast();
+        if (last != null && Objects.equals(last.payer(), payer)) {
+            this.queuedBarters.removeLast();
+            count += last.count();
+        }
+        this.queuedBarters.addLast(new QueuedBarters(payer, count));
+        this.queuedBarterCount += count;
+    }
+
     public void barter() {
         if (this.isBartering()) return;
         this.level().broadcastEntityEvent(this, BARTER_EVENT_ID);
@@ -317,27 +459,63 @@ public class BarrelGolem extends BaseGolem {
     @Override
     protected InteractionResult mobInteract(Player player, InteractionHand hand) {
         ItemStack stack = player.getItemInHand(hand);
-        if (!level().isClientSide() && isOpen() && !isBartering() && stack.is(Items.EMERALD)) {
-            this.barter();
-            this.barteringTarget = player;
-            this.setItemInHand(InteractionHand.MAIN_HAND, stack.copy());
+        if (!level().isClientSide() && stack.is(Items.EMERALD) && canQueueBarter()) {
+            this.queueBarters(1, player.getUUID());
             stack.shrink(1);
             return InteractionResult.SUCCESS;
         }
         return InteractionResult.PASS;
     }
 
+    @Override
+    public boolean canPickUpLoot() {
+        return this.canQueueBarter();
+    }
+
+    @Override
+    public boolean wantsToPickUp(ItemStack stack) {
+        return stack.is(Items.EMERALD);
+    }
+
+    @Override
+    protected void pickUpItem(ItemEntity itemEntity) {
+        ItemStack stack = itemEntity.getItem();
+        if (!stack.is(Items.EMERALD)) return;
+        int queued = this.queueBarters(stack.getCount(), null);
+        if (queued == 0) return;
+        this.onItemPickup(itemEntity);
+        this.take(itemEntity, queued);
+        stack.shrink(queued);
+        if (stack.isEmpty()) {
+            itemEntity.discard();
+        } else {
+            itemEntity.setItem(stack);
+        }
+    }
+
+    @Override
+    protected void dropAllDeathLoot(DamageSource damageSource) {
+        super.dropAllDeathLoot(damageSource);
+        // Emeralds of a batch that hasn't finished yet are refunded as well.
+        int emeralds = this.queuedBarterCount + this.batchSize;
+        if (emeralds > 0) {
+            this.spawnAtLocation(new ItemStack(Items.EMERALD, emeralds));
+            this.queuedBarters.clear();
+            this.queuedBarterCount = 0;
+            this.batchSize = 0;
+        }
+    }
+
     private List<ItemStack> getBarterResponseItems() {
         if (level() instanceof ServerLevel level) {
-            LootTable lootTable = level.getServer().reloadableRegistries().getLootTable(BARTERING_LOOT);
-            return lootTable.getRandomItems(new LootParams.Builder(level).withParameter(LootContextParams.THIS_ENTITY, this).create(LootContextParamSets.PIGLIN_BARTER));
+            return BARTER_TABLE.getRandomItems(level, this);
         }
         return List.of();
     }
 
-    private void throwItems(List<ItemStack> stacks) {
-        if (this.barteringTarget != null) {
-            throwItemsTowardPlayer(this.barteringTarget, stacks);
+    private void throwItems(@Nullable Player player, List<ItemStack> stacks) {
+        if (player != null) {
+            throwItemsTowardPlayer(player, stacks);
         } else {
             throwItemsTowardRandomPos(stacks);
         }
@@ -362,6 +540,15 @@ public class BarrelGolem extends BaseGolem {
         return vec3 == null ? this.position() : vec3;
     }
 
+    private static CompoundTag saveBarters(@Nullable UUID payer, int count) {
+        CompoundTag tag = new CompoundTag();
+        if (payer != null) tag.putUUID("Payer", payer);
+        tag.putInt("Count", count);
+        return tag;
+    }
+
+    private record QueuedBarters(@Nullable UUID payer, int count) {}
+
     private class BarrelGolemPanicGoal extends PanicGoal {
 
         public BarrelGolemPanicGoal(double speedModifier) {
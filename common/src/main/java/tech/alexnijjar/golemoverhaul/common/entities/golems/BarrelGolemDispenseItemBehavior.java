@@ -0,0 +1,43 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.dispenser.BlockSource;
+import net.minecraft.core.dispenser.DefaultDispenseItemBehavior;
+import net.minecraft.core.dispenser.DispenseItemBehavior;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.DispenserBlock;
+import net.minecraft.world.level.block.LevelEvent;
+import net.minecraft.world.phys.AABB;
+
+import java.util.List;
+
+/**
+ * Hands emeralds from dispensers straight to the barrel golem in front of them, so automated trades don't need an
+ * item entity per emerald. Anything else is left to the behavior emeralds had before.
+ */
+public class BarrelGolemDispenseItemBehavior implements DispenseItemBehavior {
+
+    private final DispenseItemBehavior fallback;
+
+    private BarrelGolemDispenseItemBehavior(DispenseItemBehavior fallback) {
+        this.fallback = fallback;
+    }
+
+    public static void register() {
+        DispenseItemBehavior fallback = DispenserBlock.DISPENSER_REGISTRY.get(Items.EMERALD);
+        DispenserBlock.registerBehavior(Items.EMERALD, new BarrelGolemDispenseItemBehavior(fallback == null ? new DefaultDispenseItemBehavior() : fallback));
+    }
+
+    @Override
+    public ItemStack dispense(BlockSource source, ItemStack stack) {
+        BlockPos pos = source.pos().relative(source.state().getValue(DispenserBlock.FACING));
+        List<BarrelGolem> golems = source.level().getEntitiesOfClass(BarrelGolem.class, new AABB(pos), BarrelGolem::canQueueBarter);
+        if (golems.isEmpty()) {
+            return this.fallback.dispense(source, stack);
+        }
+        stack.shrink(golems.get(0).queueBarters(1, null));
+        source.level().levelEvent(LevelEvent.SOUND_DISPENSER_DISPENSE, source.pos(), 0);
+        return stack;
+    }
+}
@@ -1,10 +1,7 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.tags.DamageTypeTags;
 import net.minecraft.world.InteractionHand;
@@ -21,7 +18,6 @@ import net.minecraft.world.entity.ai.navigation.GroundPathNavigation;
 import net.minecraft.world.entity.animal.AbstractGolem;
 import net.minecraft.world.entity.monster.RangedAttackMob;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -34,14 +30,22 @@ import software.bernie.geckolib.animation.AnimationState;
 import software.bernie.geckolib.animation.PlayState;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
-import tech.alexnijjar.golemoverhaul.common.entities.projectiles.CandleFlameProjectile;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 public class CandleGolem extends BaseGolem implements RangedAttackMob {
 
     private static final float HEALTH_LOSS_PER_SHOT = 0.02f;
 
-    private static final EntityDataAccessor<Boolean> ID_LIT = SynchedEntityData.defineId(CandleGolem.class, EntityDataSerializers.BOOLEAN);
-    private static final EntityDataAccessor<Boolean> ID_SITTING = SynchedEntityData.defineId(CandleGolem.class, EntityDataSerializers.BOOLEAN);
+    private static final GolemState.Flag LIT = GolemState.Flag.bit(0);
+    private static final GolemState.Flag SITTING = GolemState.Flag.bit(1);
+
+    private static final GolemFields<CandleGolem> FIELDS = GolemFields.<CandleGolem>builder()
+        .bool("Lit", CandleGolem::isLit, (golem, lit) -> golem.setState(LIT, lit))
+        .bool("Sitting", CandleGolem::isSitting, (golem, sitting) -> golem.setState(SITTING, sitting))
+        .build();
 
     private final RangedAttackGoal rangedAttackGoal = new CandleGolemRangedAttackGoal(this, 1, 20, 15);
 
@@ -68,24 +72,14 @@ public class CandleGolem extends BaseGolem implements RangedAttackMob {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_LIT, false);
-        builder.define(ID_SITTING, false);
-    }
-
-    @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putBoolean("Lit", this.isLit());
-        compound.putBoolean("Sitting", this.isSitting());
+    protected GolemFields<CandleGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setLit(compound.getBoolean("Lit"));
-        this.setSitting(compound.getBoolean("Sitting"));
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        this.updateKnockbackResistance();
     }
 
     @Override
@@ -98,27 +92,36 @@ public class CandleGolem extends BaseGolem implements RangedAttackMob {
         return isLit() || !canBeLit();
     }
 
+    @Override
+    public boolean canRangedAttack() {
+        return this.getState(LIT);
+    }
+
+    @Override
+    protected RangedAttackGoal getRangedAttackGoal() {
+        return this.rangedAttackGoal;
+    }
+
     public boolean isLit() {
-        return canBeLit() && this.entityData.get(ID_LIT);
+        return canBeLit() && this.getState(LIT);
     }
 
     public void setLit(boolean lit) {
-        this.entityData.set(ID_LIT, lit);
-
-        this.goalSelector.removeGoal(this.rangedAttackGoal);
-        if (lit) {
-            this.goalSelector.addGoal(2, this.rangedAttackGoal);
-        }
+        this.setState(LIT, lit);
         this.updateAttackGoals();
     }
 
     public boolean isSitting() {
-        return this.entityData.get(ID_SITTING);
+        return this.getState(SITTING);
     }
 
     public void setSitting(boolean sitting) {
-        this.entityData.set(ID_SITTING, sitting);
-        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(sitting ? 1 : 0);
+        this.setState(SITTING, sitting);
+        this.updateKnockbackResistance();
+    }
+
+    private void updateKnockbackResistance() {
+        this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(this.isSitting() ? 1 : 0);
     }
 
     public boolean canBeLit() {
@@ -170,16 +173,13 @@ public class CandleGolem extends BaseGolem implements RangedAttackMob {
 
     @Override
     public void performRangedAttack(LivingEntity target, float velocity) {
-        Projectile projectile = new CandleFlameProjectile(level(), CandleGolem.this);
-        projectile.setPos(getX(), getY(), getZ());
-
+        if (!(level() instanceof ServerLevel level)) return;
         double x = target.getX() - getX();
-        double y = target.getY() - projectile.getY();
+        double y = target.getY() - getY();
         double z = target.getZ() - getZ();
         double distance = Math.sqrt(x * x + z * z) * 0.2;
-        projectile.shoot(x, y + distance, z, 0.4f, 5);
+        GolemLevelData.of(level).golemoverhaul$getShots().shoot(GolemShotType.CANDLE_FLAME, this, getX(), getY(), getZ(), x, y + distance, z, 0.4f, 5);
 
-        level().addFreshEntity(projectile);
         level().playSound(null, getX(), getY(), getZ(), SoundEvents.BLAZE_SHOOT, getSoundSource(), 0.3f, random.nextFloat() * 0.4f + 0.8f);
         setHealth(getHealth() - HEALTH_LOSS_PER_SHOT);
     }
@@ -1,10 +1,6 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
@@ -32,6 +28,10 @@ import software.bernie.geckolib.animation.AnimationController;
 import software.bernie.geckolib.animation.PlayState;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
+import tech.alexnijjar.golemoverhaul.common.level.SummonBudget;
 import tech.alexnijjar.golemoverhaul.common.registry.ModSoundEvents;
 import tech.alexnijjar.golemoverhaul.common.utils.ModUtils;
 
@@ -42,13 +42,25 @@ public class CoalGolem extends BaseGolem {
     public static final int DEATH_TICKS = 13;
     public static final int MAX_SUMMON_TICKS = 20 * 120;
 
-    private static final EntityDataAccessor<Boolean> ID_LIT = SynchedEntityData.defineId(CoalGolem.class, EntityDataSerializers.BOOLEAN);
+    private static final GolemState.Flag LIT = GolemState.Flag.bit(0);
+
+    private static final GolemFields<CoalGolem> FIELDS = GolemFields.<CoalGolem>builder()
+        .bool("Lit", CoalGolem::isLit, (golem, lit) -> golem.setState(LIT, lit))
+        .uuid("SummonerId", golem -> golem.summonerId, CoalGolem::setSummoner)
+        .uuid("SummoningPlayer", golem -> golem.summoningPlayer, CoalGolem::setSummoningPlayer)
+        .build();
 
     private boolean summoned;
 
     @Nullable
     private UUID summonerId;
 
+    @Nullable
+    private UUID summoningPlayer;
+
+    @Nullable
+    private CoalGolemSwarm swarm;
+
     public CoalGolem(EntityType<? extends AbstractGolem> type, Level level) {
         super(type, level);
         this.xpReward = 1;
@@ -74,23 +86,14 @@ public class CoalGolem extends BaseGolem {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_LIT, false);
+    protected GolemFields<CoalGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putBoolean("Lit", this.isLit());
-        if (summonerId != null) compound.putUUID("SummonerId", summonerId);
-    }
-
-    @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setLit(compound.getBoolean("Lit"));
-        if (compound.hasUUID("SummonerId")) this.setSummoner(compound.getUUID("SummonerId"));
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        this.updateAttackDamage();
     }
 
     @Override
@@ -105,25 +108,79 @@ public class CoalGolem extends BaseGolem {
     }
 
     public boolean isLit() {
-        return this.entityData.get(ID_LIT);
+        return this.getState(LIT);
     }
 
     public void setLit(boolean lit) {
-        this.entityData.set(ID_LIT, lit);
-
-        this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(lit ? 12 : 2);
+        this.setState(LIT, lit);
+        this.updateAttackDamage();
         updateAttackGoals();
     }
 
+    private void updateAttackDamage() {
+        this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(this.isLit() ? 12 : 2);
+    }
+
     public boolean isSummoned() {
         return this.summoned;
     }
 
+    @Override
+    public boolean selectsOwnTargets() {
+        return this.swarm == null || !this.swarm.hasTarget();
+    }
+
+    void joinSwarm(CoalGolemSwarm swarm) {
+        this.swarm = swarm;
+        updateAttackGoals();
+    }
+
+    void leaveSwarm() {
+        this.swarm = null;
+        updateAttackGoals();
+    }
+
+    /**
+     * Blows up a summoned golem once its time is up.
+     */
+    public void expire() {
+        kill();
+        playSound(ModSoundEvents.COAL_GOLEM_EXPLODE.get());
+    }
+
     public void setSummoner(@Nullable UUID summoner) {
         this.summoned = summoner != null;
         this.summonerId = summoner;
     }
 
+    /**
+     * Sets the player riding the netherite golem that summoned this golem, who the golem counts against in the
+     * {@link SummonBudget}.
+     */
+    public void setSummoningPlayer(@Nullable UUID player) {
+        this.summoningPlayer = player;
+    }
+
+    @Override
+    protected void addToLevelIndexes(ServerLevel level) {
+        super.addToLevelIndexes(level);
+        if (isSummoned()) {
+            GolemLevelData.of(level).golemoverhaul$getSummonBudget().add(this, this.summoningPlayer);
+        }
+    }
+
+    @Override
+    protected void updateLevelIndexes(ServerLevel level) {
+        super.updateLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getSummonBudget().update(this);
+    }
+
+    @Override
+    protected void removeFromLevelIndexes(ServerLevel level, RemovalReason reason) {
+        super.removeFromLevelIndexes(level, reason);
+        GolemLevelData.of(level).golemoverhaul$getSummonBudget().remove(this);
+    }
+
     @Override
     protected void dropAllDeathLoot(DamageSource damageSource) {
         if (isSummoned()) return;
@@ -222,13 +279,10 @@ public class CoalGolem extends BaseGolem {
 
                 playSound(ModSoundEvents.COAL_GOLEM_EXPLODE.get());
 
-                for (int i = 0; i < 10; i++) {
-                    ModUtils.sendParticles((ServerLevel) level(), ParticleTypes.FLAME,
-                        getX() + random.nextGaussian() * 0.3,
-                        getY() + 0.5 + random.nextGaussian() * 0.3,
-                        getZ() + random.nextGaussian() * 0.3,
-                        1, 0, 0, 0, 0);
-                }
+                // The client already spreads each particle by a gaussian of the offset.
+                ModUtils.sendParticles((ServerLevel) level(), ParticleTypes.FLAME,
+                    getX(), getY() + 0.5, getZ(),
+                    10, 0.3, 0.3, 0.3, 0);
             }
             return true;
         }
@@ -237,17 +291,9 @@ public class CoalGolem extends BaseGolem {
 
     @Override
     public void tick() {
-        if (level() instanceof ServerLevel level) {
-            if (tickCount > MAX_SUMMON_TICKS && isSummoned()) {
-                kill();
-                playSound(ModSoundEvents.COAL_GOLEM_EXPLODE.get());
-            }
-            if (summonerId != null) {
-                Entity summoner = level.getEntity(summonerId);
-                if (summoner instanceof Mob mob) {
-                    setTarget(mob.getTarget());
-                }
-            }
+        // Swarm members are expired by their swarm, this is for golems whose summoner is gone.
+        if (!level().isClientSide() && swarm == null && isSummoned() && tickCount > MAX_SUMMON_TICKS && isAlive()) {
+            expire();
         }
         super.tick();
     }
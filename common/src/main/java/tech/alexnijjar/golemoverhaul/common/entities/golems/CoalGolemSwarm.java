@@ -0,0 +1,82 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems;
+
+import net.minecraft.world.entity.LivingEntity;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The coal golems summoned by one netherite golem cast. The summoner decides the target for the whole swarm and
+ * pushes it to the members when it changes, and every member expires at the same time. While the summoner has no
+ * target, the members look for their own.
+ */
+public class CoalGolemSwarm {
+
+    private final List<CoalGolem> members = new ArrayList<>();
+    private final long expiryTime;
+
+    @Nullable
+    private LivingEntity target;
+
+    public CoalGolemSwarm(long expiryTime) {
+        this.expiryTime = expiryTime;
+    }
+
+    public void add(CoalGolem golem) {
+        this.members.add(golem);
+        golem.joinSwarm(this);
+        golem.setTarget(this.target);
+    }
+
+    public void setTarget(@Nullable LivingEntity target) {
+        if (target == this.target) return;
+        boolean leadChanged = (target != null) != (this.target != null);
+        this.target = target;
+        for (int i = 0; i < this.members.size(); i++) {
+            CoalGolem member = this.members.get(i);
+            if (member.isAlive()) {
+                member.setTarget(target);
+                // Members select their own targets whenever the summoner has none.
+                if (leadChanged) member.updateAttackGoals();
+            }
+        }
+    }
+
+    public boolean hasTarget() {
+        return this.target != null;
+    }
+
+    /**
+     * @return Whether the swarm still has members that haven't expired.
+     */
+    public boolean tick(long gameTime) {
+        for (int i = this.members.size() - 1; i >= 0; i--) {
+            if (this.members.get(i).isRemoved()) {
+                // Order doesn't matter, so swap with the last member instead of shifting the list.
+                int last = this.members.size() - 1;
+                this.members.set(i, this.members.get(last));
+                this.members.remove(last);
+            }
+        }
+        if (gameTime >= this.expiryTime) {
+            for (CoalGolem member : this.members) {
+                if (member.isAlive()) {
+                    member.expire();
+                }
+            }
+            this.members.clear();
+        }
+        return !this.members.isEmpty();
+    }
+
+    /**
+     * Leaves the members to look after themselves, for when the summoner is no longer around to lead them.
+     */
+    public void disband() {
+        for (CoalGolem member : this.members) {
+            member.leaveSwarm();
+        }
+        this.members.clear();
+    }
+}
@@ -1,13 +1,9 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
 import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
-import net.minecraft.tags.BlockTags;
 import net.minecraft.world.DifficultyInstance;
 import net.minecraft.world.InteractionHand;
 import net.minecraft.world.InteractionResult;
@@ -20,37 +16,25 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelAccessor;
 import net.minecraft.world.level.ServerLevelAccessor;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.pattern.BlockInWorld;
-import net.minecraft.world.level.block.state.pattern.BlockPattern;
-import net.minecraft.world.level.block.state.pattern.BlockPatternBuilder;
-import net.minecraft.world.level.block.state.predicate.BlockStatePredicate;
 import net.minecraft.world.phys.AABB;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.AnimatableManager;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
-import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
-import tech.alexnijjar.golemoverhaul.common.utils.ModUtils;
-
-import java.util.Locale;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 public class HayGolem extends BaseGolem implements Shearable {
 
-    private static final EntityDataAccessor<Byte> ID_COLOR = SynchedEntityData.defineId(HayGolem.class, EntityDataSerializers.BYTE);
-    private static final EntityDataAccessor<Boolean> ID_SHEARED = SynchedEntityData.defineId(HayGolem.class, EntityDataSerializers.BOOLEAN);
-
-    private static final BlockPattern HAY_GOLEM_PATTERN = BlockPatternBuilder.start()
-        .aisle(
-            "~^~",
-            "/#/",
-            "~/~"
-        )
-        .where('^', BlockInWorld.hasState(ModUtils.PUMPKINS_PREDICATE))
-        .where('#', BlockInWorld.hasState(BlockStatePredicate.forBlock(Blocks.HAY_BLOCK)))
-        .where('/', BlockInWorld.hasState(state -> state.is(BlockTags.FENCES)))
-        .where('~', blockInWorld -> blockInWorld.getState().isAir())
+    private static final GolemState.Flag SHEARED = GolemState.Flag.bit(0);
+    private static final Color[] COLORS = Color.values();
+    private static final GolemState.Slice COLOR = GolemState.Slice.ordinal(1, Color.class);
+
+    private static final GolemFields<HayGolem> FIELDS = GolemFields.<HayGolem>builder()
+        .enumeration("Color", COLORS, Color.GREEN, HayGolem::getColor, HayGolem::setColor)
+        .bool("Sheared", HayGolem::isSheared, HayGolem::setSheared)
         .build();
 
     public HayGolem(EntityType<? extends AbstractGolem> type, Level level) {
@@ -65,12 +49,12 @@ public class HayGolem extends BaseGolem implements Shearable {
             .add(Attributes.ATTACK_DAMAGE, 3);
     }
 
-    public static void trySpawnGolem(Level level, BlockPos pos) {
-        BlockPattern.BlockPatternMatch pattern = HAY_GOLEM_PATTERN.find(level, pos);
-        if (pattern == null) return;
-        HayGolem golem = ModEntityTypes.HAY_GOLEM.get().create(level);
-        if (golem == null) return;
-        ModUtils.spawnGolemInWorld(level, pattern, golem, pattern.getBlock(1, 2, 0).getPos());
+    /**
+     * @return Whether a hay golem is close enough to the farmland at the position to stop it from being trampled.
+     */
+    public static boolean isFarmlandProtected(LevelAccessor level, BlockPos pos) {
+        return level instanceof ServerLevel serverLevel
+            && GolemLevelData.of(serverLevel).golemoverhaul$getFarmlandProtection().isProtected(pos);
     }
 
     @Override
@@ -79,24 +63,26 @@ public class HayGolem extends BaseGolem implements Shearable {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_COLOR, (byte) 0);
-        builder.define(ID_SHEARED, false);
+    protected void addToLevelIndexes(ServerLevel level) {
+        super.addToLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getFarmlandProtection().add(this);
+    }
+
+    @Override
+    protected void updateLevelIndexes(ServerLevel level) {
+        super.updateLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getFarmlandProtection().update(this);
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putString("Color", this.getColor().name().toLowerCase(Locale.ROOT));
-        compound.putBoolean("Sheared", this.isSheared());
+    protected void removeFromLevelIndexes(ServerLevel level, RemovalReason reason) {
+        super.removeFromLevelIndexes(level, reason);
+        GolemLevelData.of(level).golemoverhaul$getFarmlandProtection().remove(this);
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setColor(Color.valueOf(compound.getString("Color").toUpperCase(Locale.ROOT)));
-        this.setSheared(compound.getBoolean("Sheared"));
+    protected GolemFields<HayGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
@@ -105,19 +91,19 @@ public class HayGolem extends BaseGolem implements Shearable {
     }
 
     public Color getColor() {
-        return Color.values()[this.entityData.get(ID_COLOR)];
+        return COLORS[this.getState(COLOR)];
     }
 
     public void setColor(Color color) {
-        this.entityData.set(ID_COLOR, (byte) color.ordinal());
+        this.setState(COLOR, color.ordinal());
     }
 
     public boolean isSheared() {
-        return this.entityData.get(ID_SHEARED);
+        return this.getState(SHEARED);
     }
 
     public void setSheared(boolean sheared) {
-        this.entityData.set(ID_SHEARED, sheared);
+        this.setState(SHEARED, sheared);
     }
 
     @Override
@@ -4,9 +4,7 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -23,33 +21,58 @@ import net.minecraft.world.entity.animal.AbstractGolem;
 import net.minecraft.world.entity.animal.Bee;
 import net.minecraft.world.entity.monster.RangedAttackMob;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
 import net.minecraft.world.phys.Vec3;
-import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import tech.alexnijjar.golemoverhaul.common.entities.AdditionalBeeData;
+import tech.alexnijjar.golemoverhaul.common.entities.HousedBee;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
-import tech.alexnijjar.golemoverhaul.common.entities.projectiles.HoneyBlobProjectile;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 import tech.alexnijjar.golemoverhaul.common.registry.ModItems;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 
 public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable {
 
     public static final byte NECTAR_PARTICLES_EVENT_ID = 8;
 
     public static final int RANGED_ATTACK_DELAY_TICKS = 6;
+    public static final int HIVE_SEARCH_RANGE = 128;
+    public static final int BEE_OCCUPATION_TICKS = 2400;
+
+    private static final GolemState.Slice HONEY_LEVEL = GolemState.Slice.bits(0, 8);
+
+    private static final GolemFields<HoneyGolem> FIELDS = GolemFields.<HoneyGolem>builder()
+        .integer("HoneyLevel", 0, Byte.MAX_VALUE, HoneyGolem::getHoneyLevel, (golem, honeyLevel) -> golem.setHoneyLevel((byte) honeyLevel))
+        .field(new GolemFields.Field<>() {
+            @Override
+            public void save(HoneyGolem golem, CompoundTag tag) {
+                ListTag beeTag = new ListTag();
+                for (HousedBee bee : golem.bees) {
+                    beeTag.add(bee.save());
+                }
+                tag.put("Bees", beeTag);
+            }
 
-    public static final EntityDataAccessor<Byte> ID_HONEY_LEVEL = SynchedEntityData.defineId(HoneyGolem.class, EntityDataSerializers.BYTE);
+            @Override
+            public void load(HoneyGolem golem, CompoundTag tag) {
+                ListTag beeTag = tag.getList("Bees", Tag.TAG_COMPOUND);
+                for (int i = 0; i < beeTag.size(); i++) {
+                    golem.bees.add(HousedBee.load(beeTag.getCompound(i)));
+                }
+            }
+        })
+        .build();
 
-    private final List<BeeData> bees = new ArrayList<>();
+    private final List<HousedBee> bees = new ArrayList<>();
 
     private int attackAnimationDelay = -1;
 
@@ -65,39 +88,43 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
             .add(Attributes.ATTACK_DAMAGE, 6);
     }
 
+    /**
+     * @return The closest honey golem within {@link #HIVE_SEARCH_RANGE} blocks of the entity.
+     */
+    @Nullable
+    public static HoneyGolem findNearestHive(ServerLevel level, Entity entity) {
+        return GolemLevelData.of(level).golemoverhaul$getHoneyGolems().findNearest(
+            entity.getBoundingBox().inflate(HIVE_SEARCH_RANGE),
+            entity.getX(), entity.getY(), entity.getZ(),
+            golem -> true);
+    }
+
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_HONEY_LEVEL, (byte) 0);
+    protected void addToLevelIndexes(ServerLevel level) {
+        super.addToLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getHoneyGolems().add(this);
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putByte("HoneyLevel", this.getHoneyLevel());
-        ListTag beeTag = new ListTag();
-        for (BeeData bee : bees) {
-            CompoundTag tag = new CompoundTag();
-            tag.put("EntityData", bee.tag);
-            tag.putInt("TicksInHive", bee.ticks);
-            tag.putInt("MinOccupationTicks", bee.minOccupationTicks);
-            beeTag.add(tag);
-        }
-        compound.put("Bees", beeTag);
+    protected void updateLevelIndexes(ServerLevel level) {
+        super.updateLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getHoneyGolems().update(this);
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setHoneyLevel(compound.getByte("HoneyLevel"));
-        ListTag beeTag = compound.getList("Bees", Tag.TAG_COMPOUND);
-        for (int i = 0; i < beeTag.size(); i++) {
-            CompoundTag tag = beeTag.getCompound(i);
-            bees.add(new BeeData(
-                tag.getCompound("EntityData"),
-                tag.getInt("TicksInHive"),
-                tag.getInt("MinOccupationTicks")));
-        }
+    protected void removeFromLevelIndexes(ServerLevel level, RemovalReason reason) {
+        super.removeFromLevelIndexes(level, reason);
+        GolemLevelData.of(level).golemoverhaul$getHoneyGolems().remove(this);
+    }
+
+    @Override
+    protected GolemFields<HoneyGolem> getSaveFields() {
+        return FIELDS;
+    }
+
+    @Override
+    public boolean requiresFullAi() {
+        return super.requiresFullAi() || attackAnimationDelay != -1;
     }
 
     @Override
@@ -112,11 +139,11 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
     }
 
     public byte getHoneyLevel() {
-        return this.entityData.get(ID_HONEY_LEVEL);
+        return (byte) this.getState(HONEY_LEVEL);
     }
 
     public void setHoneyLevel(byte honeyLevel) {
-        this.entityData.set(ID_HONEY_LEVEL, honeyLevel);
+        this.setState(HONEY_LEVEL, honeyLevel);
     }
 
     public boolean isFullOfHoney() {
@@ -157,17 +184,13 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
     }
 
     public void actuallyShoot(LivingEntity target) {
-        if (target == null) return;
-        Projectile projectile = new HoneyBlobProjectile(level(), this);
-        projectile.setPos(getX(), getY(), getZ());
-
+        if (target == null || !(level() instanceof ServerLevel level)) return;
         double x = target.getX() - getX();
-        double y = target.getY() - projectile.getY();
+        double y = target.getY() - getY();
         double z = target.getZ() - getZ();
         double distance = Math.sqrt(x * x + z * z) * 0.2;
-        projectile.shoot(x, y + distance + 0.8, z, 1.2f, 3);
+        GolemLevelData.of(level).golemoverhaul$getShots().shoot(GolemShotType.HONEY_BLOB, this, getX(), getY(), getZ(), x, y + distance + 0.8, z, 1.2f, 3);
 
-        level().addFreshEntity(projectile);
         playSound(SoundEvents.SLIME_ATTACK, 1, 0.4f / (getRandom().nextFloat() * 0.4f + 0.8f));
     }
 
@@ -176,9 +199,7 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
     public SpawnGroupData finalizeSpawn(ServerLevelAccessor level, DifficultyInstance difficultyInstance, MobSpawnType mobSpawnType, @Nullable SpawnGroupData spawnGroupData) {
         final int count = 2 + level.getRandom().nextInt(4);
         for (int i = 0; i < count; i++) {
-            Bee bee = Objects.requireNonNull(EntityType.BEE.create(level()));
-            this.bees.add(new BeeData(bee.saveWithoutId(new CompoundTag()), 0, 2400));
-            ((AdditionalBeeData) bee).golemoverhaul$setOwner(this.getUUID());
+            this.bees.add(HousedBee.create(level.getRandom(), this.getUUID(), BEE_OCCUPATION_TICKS));
         }
         this.setHoneyLevel((byte) count);
         return super.finalizeSpawn(level, difficultyInstance, mobSpawnType, spawnGroupData);
@@ -191,17 +212,16 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
         }
 
         if (!level().isNight() && !level().isRaining()) {
-            for (int i = 0; i < bees.size(); i++) {
-                BeeData bee = bees.get(i);
-                bee.ticks++;
-                if (bee.ticks >= bee.minOccupationTicks) {
+            // Released bees are swapped with the last one, so walk backwards to visit every bee once.
+            int elapsed = getElapsedAiTicks();
+            for (int i = bees.size() - 1; i >= 0; i--) {
+                if (bees.get(i).tick(elapsed)) {
                     releaseBee(i);
-                    i--;
                 }
             }
         }
 
-        if (!bees.isEmpty() && tickCount % 200 == 0) {
+        if (!bees.isEmpty() && aiIntervalElapsed(200)) {
             this.heal(1);
         }
 
@@ -291,7 +311,7 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
     public void putBee(Bee bee) {
         if (!canPutBee()) return;
         ((AdditionalBeeData) bee).golemoverhaul$setOwner(this.getUUID());
-        bees.add(new BeeData(bee.saveWithoutId(new CompoundTag()), 0, 2400));
+        bees.add(HousedBee.capture(bee, BEE_OCCUPATION_TICKS));
         if (bee.hasNectar() && !isFullOfHoney()) {
             setHoneyLevel((byte) (getHoneyLevel() + 1));
             if (getHealth() < getMaxHealth()) {
@@ -304,39 +324,30 @@ public class HoneyGolem extends BaseGolem implements RangedAttackMob, Shearable
         playSound(SoundEvents.BEEHIVE_ENTER);
     }
 
+    @Nullable
     private Bee releaseBee(int index) {
-        BeeData data = bees.get(index);
-        Bee bee = Objects.requireNonNull(EntityType.BEE.create(level()));
-        bee.load(data.tag);
+        // Order doesn't matter, so swap with the last bee instead of shifting the list.
+        int last = bees.size() - 1;
+        HousedBee data = bees.set(index, bees.get(last));
+        bees.remove(last);
+
+        if (!(level() instanceof ServerLevel level)) return null;
+        Bee bee = data.release(level);
+        if (bee == null) return null;
         bee.setPos(getX(), getY(), getZ());
-        bee.dropOffNectar();
         bee.setHealth(bee.getMaxHealth());
-        level().addFreshEntity(bee);
+        level.addFreshEntity(bee);
         bee.setStayOutOfHiveCountdown(400);
         playSound(SoundEvents.BEEHIVE_EXIT);
-        bees.remove(index);
         return bee;
     }
 
     public List<Bee> releaseAllBees() {
-        List<Bee> removedBees = new ArrayList<>();
-        int size = this.bees.size();
-        for (int i = 0; i < size; i++) {
-            removedBees.add(releaseBee(0));
+        List<Bee> removedBees = new ArrayList<>(this.bees.size());
+        for (int i = this.bees.size() - 1; i >= 0; i--) {
+            Bee bee = releaseBee(i);
+            if (bee != null) removedBees.add(bee);
         }
         return removedBees;
     }
-
-    private static final class BeeData {
-
-        private final CompoundTag tag;
-        private int ticks;
-        private final int minOccupationTicks;
-
-        private BeeData(CompoundTag tag, int ticks, int minOccupationTicks) {
-            this.tag = tag;
-            this.ticks = ticks;
-            this.minOccupationTicks = minOccupationTicks;
-        }
-    }
 }
\ No newline at end of file
@@ -1,10 +1,6 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
-import net.minecraft.core.BlockPos;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.util.Mth;
 import net.minecraft.world.effect.MobEffectInstance;
 import net.minecraft.world.effect.MobEffects;
@@ -24,10 +20,6 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.level.block.state.pattern.BlockInWorld;
-import net.minecraft.world.level.block.state.pattern.BlockPattern;
-import net.minecraft.world.level.block.state.pattern.BlockPatternBuilder;
-import net.minecraft.world.level.block.state.predicate.BlockStatePredicate;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
@@ -38,27 +30,29 @@ import software.bernie.geckolib.animation.AnimationState;
 import software.bernie.geckolib.animation.PlayState;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
-import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
-import tech.alexnijjar.golemoverhaul.common.utils.ModUtils;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.level.ConduitCoverage;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 public class KelpGolem extends BaseGolem {
 
     protected final WaterBoundPathNavigation waterNavigation;
     protected final GroundPathNavigation groundNavigation;
 
-    private static final EntityDataAccessor<Boolean> ID_CHARGED = SynchedEntityData.defineId(KelpGolem.class, EntityDataSerializers.BOOLEAN);
-
-    private static final BlockPattern KELP_GOLEM_PATTERN = BlockPatternBuilder.start()
-        .aisle(
-            "~~~",
-            "#^#",
-            "~#~"
-        )
-        .where('^', BlockInWorld.hasState(BlockStatePredicate.forBlock(Blocks.SEA_LANTERN)))
-        .where('#', BlockInWorld.hasState(BlockStatePredicate.forBlock(Blocks.DRIED_KELP_BLOCK)))
-        .where('~', blockInWorld -> blockInWorld.getState().isAir())
+    /**
+     * How long a golem stays charged after the last conduit pulse reached it.
+     */
+    public static final int CONDUIT_CHARGE_TICKS = 260;
+
+    private static final GolemState.Flag CHARGED = GolemState.Flag.bit(0);
+
+    private static final GolemFields<KelpGolem> FIELDS = GolemFields.<KelpGolem>builder()
+        .bool("Charged", KelpGolem::isCharged, KelpGolem::setCharged)
         .build();
 
+    private int conduitChargeTicks;
+
     public KelpGolem(EntityType<? extends AbstractGolem> type, Level level) {
         super(type, level);
         this.xpReward = 14;
@@ -75,14 +69,6 @@ public class KelpGolem extends BaseGolem {
             .add(Attributes.ATTACK_DAMAGE, 8);
     }
 
-    public static void trySpawnGolem(Level level, BlockPos pos) {
-        BlockPattern.BlockPatternMatch pattern = KELP_GOLEM_PATTERN.find(level, pos);
-        if (pattern == null) return;
-        KelpGolem golem = ModEntityTypes.KELP_GOLEM.get().create(level);
-        if (golem == null) return;
-        ModUtils.spawnGolemInWorld(level, pattern, golem, pattern.getBlock(1, 2, 0).getPos());
-    }
-
     @Override
     public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
         super.registerControllers(controllers);
@@ -113,24 +99,19 @@ public class KelpGolem extends BaseGolem {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_CHARGED, false);
+    protected GolemFields<KelpGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putBoolean("Charged", this.isCharged());
-    }
-
-    @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setCharged(compound.getBoolean("Charged"));
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        // Wait for the next pulse before deciding the golem is out of range.
+        if (this.isCharged()) {
+            this.conduitChargeTicks = CONDUIT_CHARGE_TICKS;
+        }
     }
 
-
     @Override
     protected void registerGoals() {
         super.registerGoals();
@@ -138,11 +119,41 @@ public class KelpGolem extends BaseGolem {
     }
 
     public boolean isCharged() {
-        return this.entityData.get(ID_CHARGED);
+        return this.getState(CHARGED);
     }
 
     public void setCharged(boolean charged) {
-        this.entityData.set(ID_CHARGED, charged);
+        this.setState(CHARGED, charged);
+    }
+
+    /**
+     * Called by {@link ConduitCoverage} when a conduit pulse reaches the golem.
+     */
+    public void chargeFromConduit() {
+        this.addEffect(new MobEffectInstance(MobEffects.CONDUIT_POWER, CONDUIT_CHARGE_TICKS, 0, true, true));
+        this.addEffect(new MobEffectInstance(MobEffects.DAMAGE_BOOST, 100, 1, true, true));
+        this.addEffect(new MobEffectInstance(MobEffects.REGENERATION, 100, 0, true, true));
+        this.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, 100, 1, true, true));
+        this.setCharged(true);
+        this.conduitChargeTicks = CONDUIT_CHARGE_TICKS;
+    }
+
+    @Override
+    protected void addToLevelIndexes(ServerLevel level) {
+        super.addToLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getConduitCoverage().subscribe(this);
+    }
+
+    @Override
+    protected void updateLevelIndexes(ServerLevel level) {
+        super.updateLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getConduitCoverage().update(this);
+    }
+
+    @Override
+    protected void removeFromLevelIndexes(ServerLevel level, RemovalReason reason) {
+        super.removeFromLevelIndexes(level, reason);
+        GolemLevelData.of(level).golemoverhaul$getConduitCoverage().unsubscribe(this);
     }
 
     @Override
@@ -185,22 +196,11 @@ public class KelpGolem extends BaseGolem {
     @Override
     public void tick() {
         super.tick();
-        if (!level().isClientSide() && tickCount % 60 == 0) {
-            if (this.inConduitRange()) {
-                this.setCharged(true);
-                this.addEffect(new MobEffectInstance(MobEffects.DAMAGE_BOOST, 100, 1, true, true));
-                this.addEffect(new MobEffectInstance(MobEffects.REGENERATION, 100, 0, true, true));
-                this.addEffect(new MobEffectInstance(MobEffects.DAMAGE_RESISTANCE, 100, 1, true, true));
-            } else {
-                this.setCharged(false);
-            }
+        if (this.conduitChargeTicks > 0 && --this.conduitChargeTicks == 0 && !level().isClientSide()) {
+            this.setCharged(false);
         }
     }
 
-    private boolean inConduitRange() {
-        return this.hasEffect(MobEffects.CONDUIT_POWER);
-    }
-
     @Override
     public boolean checkSpawnObstruction(LevelReader level) {
         return level.isUnobstructed(this);
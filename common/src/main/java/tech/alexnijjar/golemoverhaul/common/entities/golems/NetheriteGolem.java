@@ -2,10 +2,6 @@ package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.particles.ParticleTypes;
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
@@ -24,12 +20,7 @@ import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
-import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.block.state.pattern.BlockInWorld;
-import net.minecraft.world.level.block.state.pattern.BlockPattern;
-import net.minecraft.world.level.block.state.pattern.BlockPatternBuilder;
-import net.minecraft.world.level.block.state.predicate.BlockStatePredicate;
 import net.minecraft.world.level.pathfinder.PathType;
 import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec2;
@@ -40,35 +31,48 @@ import software.bernie.geckolib.animation.AnimatableManager;
 import software.bernie.geckolib.animation.AnimationController;
 import software.bernie.geckolib.animation.PlayState;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
+import tech.alexnijjar.golemoverhaul.common.constants.ConstantComponents;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 import tech.alexnijjar.golemoverhaul.common.utils.ModUtils;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
 public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideableJumping {
 
     public static final byte SUMMON_EVENT_ID = 8;
     public static final int SUMMON_TICKS_LENGTH = 60;
     public static final int DEATH_TICKS = 50;
     public static final int SUMMONING_COOLDOWN_TICKS_LENGTH = 20 * 60;
-
-    private static final EntityDataAccessor<Boolean> ID_CHARGED = SynchedEntityData.defineId(NetheriteGolem.class, EntityDataSerializers.BOOLEAN);
-    private static final EntityDataAccessor<Boolean> ID_GILDED = SynchedEntityData.defineId(NetheriteGolem.class, EntityDataSerializers.BOOLEAN);
-
-    private static final BlockPattern NETHERITE_GOLEM_PATTERN = BlockPatternBuilder.start()
-        .aisle(
-            "~^~",
-            "/#/",
-            "~/~"
-        )
-        .where('^', BlockInWorld.hasState(ModUtils.PUMPKINS_PREDICATE))
-        .where('#', BlockInWorld.hasState(BlockStatePredicate.forBlock(Blocks.NETHERITE_BLOCK)))
-        .where('/', BlockInWorld.hasState(BlockStatePredicate.forBlock(Blocks.ANCIENT_DEBRIS)))
-        .where('~', blockInWorld -> blockInWorld.getState().isAir())
+    public static final int COAL_GOLEMS_PER_SUMMON = 5;
+
+    private static final GolemState.Flag CHARGED = GolemState.Flag.bit(0);
+    private static final GolemState.Flag GILDED = GolemState.Flag.bit(1);
+
+    private static final GolemFields<NetheriteGolem> FIELDS = GolemFields.<NetheriteGolem>builder()
+        .bool("Charged", NetheriteGolem::isCharged, NetheriteGolem::setCharged)
+        .bool("Gilded", NetheriteGolem::isGilded, NetheriteGolem::setGilded)
+        .integer("SummoningTicks", 0, SUMMON_TICKS_LENGTH, NetheriteGolem::getSummoningTicks, NetheriteGolem::setSummoningTicks)
+        .integer("SummonCooldown", 0, SUMMONING_COOLDOWN_TICKS_LENGTH, NetheriteGolem::getSummonCooldown, NetheriteGolem::setSummonCooldown)
+        .integer("SummonCount", 0, COAL_GOLEMS_PER_SUMMON, golem -> golem.summonCount, (golem, count) -> golem.summonCount = count)
+        .uuid("SummoningPlayer", golem -> golem.summoningPlayer, (golem, player) -> golem.summoningPlayer = player)
         .build();
 
     private int summoningTicks;
     private int summonCooldown;
 
+    private final List<CoalGolemSwarm> swarms = new ArrayList<>();
+
+    // How many coal golems the summon budget granted the current cast.
+    private int summonCount;
+    @Nullable
+    private UUID summoningPlayer;
+
     private int lastJumpPower;
 
     public NetheriteGolem(EntityType<? extends AbstractGolem> type, Level level) {
@@ -89,14 +93,6 @@ public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideab
             .add(Attributes.STEP_HEIGHT, 1);
     }
 
-    public static void trySpawnGolem(Level level, BlockPos pos) {
-        BlockPattern.BlockPatternMatch pattern = NETHERITE_GOLEM_PATTERN.find(level, pos);
-        if (pattern == null) return;
-        NetheriteGolem golem = ModEntityTypes.NETHERITE_GOLEM.get().create(level);
-        if (golem == null) return;
-        ModUtils.spawnGolemInWorld(level, pattern, golem, pattern.getBlock(1, 2, 0).getPos());
-    }
-
     @Override
     public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
         super.registerControllers(controllers);
@@ -115,44 +111,44 @@ public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideab
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_CHARGED, false);
-        builder.define(ID_GILDED, false);
-    }
-
-    @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putBoolean("Charged", this.isCharged());
-        compound.putBoolean("Gilded", this.isGilded());
-        compound.putInt("SummoningTicks", this.getSummoningTicks());
-        compound.putInt("SummonCooldown", this.getSummonCooldown());
-    }
-
-    @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setCharged(compound.getBoolean("Charged"));
-        this.setGilded(compound.getBoolean("Gilded"));
-        this.setSummoningTicks(compound.getInt("SummoningTicks"));
-        this.setSummonCooldown(compound.getInt("SummonCooldown"));
+    protected GolemFields<NetheriteGolem> getSaveFields() {
+        return FIELDS;
     }
 
     public boolean isCharged() {
-        return this.entityData.get(ID_CHARGED);
+        return this.getState(CHARGED);
     }
 
     public void setCharged(boolean charged) {
-        this.entityData.set(ID_CHARGED, charged);
+        this.setState(CHARGED, charged);
     }
 
     public boolean isGilded() {
-        return this.entityData.get(ID_GILDED);
+        return this.getState(GILDED);
     }
 
     public void setGilded(boolean gilded) {
-        this.entityData.set(ID_GILDED, gilded);
+        this.setState(GILDED, gilded);
+        ServerLevel level = this.getIndexedLevel();
+        if (level != null) {
+            GolemLevelData.of(level).golemoverhaul$getPiglinAnger().update(this, !gilded);
+        }
+    }
+
+    @Override
+    protected void addToLevelIndexes(ServerLevel level) {
+        super.addToLevelIndexes(level);
+        GolemLevelData.of(level).golemoverhaul$getPiglinAnger().update(this, !this.isGilded());
+    }
+
+    @Override
+    protected void removeFromLevelIndexes(ServerLevel level, RemovalReason reason) {
+        super.removeFromLevelIndexes(level, reason);
+        GolemLevelData.of(level).golemoverhaul$getPiglinAnger().remove(this);
+        for (CoalGolemSwarm swarm : this.swarms) {
+            swarm.disband();
+        }
+        this.swarms.clear();
     }
 
     public int getSummoningTicks() {
@@ -464,6 +460,7 @@ public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideab
         this.summonCooldown = Math.max(0, this.summonCooldown - 1);
 
         if (!level().isClientSide()) {
+            this.tickSwarms();
             if (summoningTicks > 0) {
                 if (summoningTicks == 40) {
                     spawnCoalGolems();
@@ -484,6 +481,19 @@ public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideab
         super.aiStep();
     }
 
+    private void tickSwarms() {
+        if (this.swarms.isEmpty()) return;
+        long gameTime = level().getGameTime();
+        LivingEntity target = getTarget();
+        for (int i = this.swarms.size() - 1; i >= 0; i--) {
+            CoalGolemSwarm swarm = this.swarms.get(i);
+            swarm.setTarget(target);
+            if (!swarm.tick(gameTime)) {
+                this.swarms.remove(i);
+            }
+        }
+    }
+
     private void spawnFireParticles() {
         Vec3 lookAngle = getLookAngle();
         this.level().addParticle(ParticleTypes.FLAME,
@@ -496,23 +506,47 @@ public class NetheriteGolem extends BaseGolem implements Shearable, PlayerRideab
     public void summon() {
         if (summonCooldown > 0) return;
         if (!isCharged()) return;
-        this.summoningTicks = SUMMON_TICKS_LENGTH;
+        if (!(level() instanceof ServerLevel level)) return;
+        Player player = getControllingPassenger() instanceof Player rider ? rider : null;
+        UUID playerId = player == null ? null : player.getUUID();
+        // Refused casts go on cooldown too, so they aren't retried every tick.
         this.summonCooldown = SUMMONING_COOLDOWN_TICKS_LENGTH;
+        int count = GolemLevelData.of(level).golemoverhaul$getSummonBudget().allowance(level, blockPosition(), playerId, COAL_GOLEMS_PER_SUMMON);
+        if (count == 0) {
+            if (player != null) {
+                player.displayClientMessage(ConstantComponents.SUMMON_LIMIT_REACHED, true);
+            }
+            return;
+        }
+        this.summonCount = count;
+        this.summoningPlayer = playerId;
+        this.summoningTicks = SUMMON_TICKS_LENGTH;
         this.level().broadcastEntityEvent(this, SUMMON_EVENT_ID);
     }
 
     public void spawnCoalGolems() {
+        if (!(level() instanceof ServerLevel level)) return;
         playSound(SoundEvents.FIRECHARGE_USE);
-        for (int i = 0; i < 5; i++) {
+        // Nothing is reserved while the summon plays out, so other casts may have used up the caps since.
+        Vec3 lookAngle = getLookAngle();
+        Vec3 spawnPos = new Vec3(getX() + lookAngle.x * 0.5, getY() + 0.35, getZ() + lookAngle.z * 0.5);
+        int count = GolemLevelData.of(level).golemoverhaul$getSummonBudget().remaining(BlockPos.containing(spawnPos), this.summoningPlayer, this.summonCount);
+        CoalGolemSwarm swarm = new CoalGolemSwarm(level.getGameTime() + CoalGolem.MAX_SUMMON_TICKS);
+        for (int i = 0; i < count; i++) {
             CoalGolem golem = ModEntityTypes.COAL_GOLEM.get().create(level());
-            if (golem == null) return;
-            Vec3 lookAngle = getLookAngle();
-            golem.setPos(getX() + lookAngle.x * 0.5, getY() + 0.35, getZ() + lookAngle.z * 0.5);
+            if (golem == null) break;
+            golem.setPos(spawnPos);
             golem.setLit(true);
             golem.setSummoner(getUUID());
+            golem.setSummoningPlayer(this.summoningPlayer);
             level().addFreshEntity(golem);
-            golem.setTarget(getTarget());
-            golem.setTarget(getTarget());
+            swarm.add(golem);
+        }
+        this.summonCount = 0;
+        this.summoningPlayer = null;
+        if (count > 0) {
+            swarm.setTarget(getTarget());
+            this.swarms.add(swarm);
         }
 
         for (int i = 0; i < 10; i++) {
@@ -1,10 +1,6 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
-import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.chat.Component;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.DifficultyInstance;
@@ -25,13 +21,18 @@ import software.bernie.geckolib.animation.PlayState;
 import software.bernie.geckolib.animation.RawAnimation;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 
-import java.util.Locale;
-
 public class SlimeGolem extends BaseGolem {
 
-    private static final EntityDataAccessor<Byte> ID_SIZE = SynchedEntityData.defineId(SlimeGolem.class, EntityDataSerializers.BYTE);
+    private static final Size[] SIZES = Size.values();
+    private static final GolemState.Slice SIZE = GolemState.Slice.ordinal(0, Size.class);
+
+    private static final GolemFields<SlimeGolem> FIELDS = GolemFields.<SlimeGolem>builder()
+        .enumeration("Size", SIZES, Size.LARGE, SlimeGolem::getSize, (golem, size) -> golem.setState(SIZE, size.ordinal()))
+        .build();
     public static final EntityDimensions SMALL_DIMENSIONS = EntityDimensions.scalable(0.5f, 0.5f);
 
     @NotNull
@@ -55,30 +56,27 @@ public class SlimeGolem extends BaseGolem {
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_SIZE, (byte) 0);
-    }
-
-    @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putString("Size", this.getSize().name().toLowerCase(Locale.ROOT));
+    protected GolemFields<SlimeGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setSize(Size.valueOf(compound.getString("Size").toUpperCase(Locale.ROOT)), false);
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        this.applySize(false);
     }
 
     public Size getSize() {
-        return Size.values()[this.entityData.get(ID_SIZE)];
+        return SIZES[this.getState(SIZE)];
     }
 
     public void setSize(Size size, boolean resetHealth) {
-        this.entityData.set(ID_SIZE, (byte) size.ordinal());
+        this.setState(SIZE, size.ordinal());
+        this.applySize(resetHealth);
+    }
 
+    private void applySize(boolean resetHealth) {
+        Size size = this.getSize();
         this.reapplyPosition();
         this.refreshDimensions();
         this.getAttribute(Attributes.MAX_HEALTH).setBaseValue(size.health);
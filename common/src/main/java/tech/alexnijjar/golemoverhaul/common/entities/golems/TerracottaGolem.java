@@ -1,9 +1,6 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems;
 
-import net.minecraft.nbt.CompoundTag;
-import net.minecraft.network.syncher.EntityDataAccessor;
-import net.minecraft.network.syncher.EntityDataSerializers;
-import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.DifficultyInstance;
@@ -19,7 +16,6 @@ import net.minecraft.world.entity.ai.goal.RangedAttackGoal;
 import net.minecraft.world.entity.animal.AbstractGolem;
 import net.minecraft.world.entity.monster.RangedAttackMob;
 import net.minecraft.world.entity.player.Player;
-import net.minecraft.world.entity.projectile.Projectile;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
@@ -30,15 +26,21 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animation.AnimatableManager;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
-import tech.alexnijjar.golemoverhaul.common.entities.projectiles.MudBallProjectile;
-
-import java.util.Locale;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemFields;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.GolemState;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttackMob {
 
     public static final int RANGED_ATTACK_DELAY_TICKS = 2;
 
-    private static final EntityDataAccessor<Byte> ID_TYPE = SynchedEntityData.defineId(TerracottaGolem.class, EntityDataSerializers.BYTE);
+    private static final Type[] TYPES = Type.values();
+    private static final GolemState.Slice TYPE = GolemState.Slice.ordinal(0, Type.class);
+
+    private static final GolemFields<TerracottaGolem> FIELDS = GolemFields.<TerracottaGolem>builder()
+        .enumeration("Type", TYPES, Type.NORMAL, TerracottaGolem::getTerracottaType, (golem, type) -> golem.setState(TYPE, type.ordinal()))
+        .build();
 
     private final RangedAttackGoal rangedAttackGoal = new RangedAttackGoal(this, 1, 20, 15);
 
@@ -62,21 +64,19 @@ public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttac
     }
 
     @Override
-    protected void defineSynchedData(SynchedEntityData.Builder builder) {
-        super.defineSynchedData(builder);
-        builder.define(ID_TYPE, (byte) 0);
+    protected GolemFields<TerracottaGolem> getSaveFields() {
+        return FIELDS;
     }
 
     @Override
-    public void addAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.addAdditionalSaveData(compound);
-        compound.putString("Type", this.getTerracottaType().name().toLowerCase(Locale.ROOT));
+    protected void onSaveDataLoaded() {
+        super.onSaveDataLoaded();
+        this.applyType();
     }
 
     @Override
-    public void readAdditionalSaveData(@NotNull CompoundTag compound) {
-        super.readAdditionalSaveData(compound);
-        this.setTerracottaType(Type.valueOf(compound.getString("Type").toUpperCase(Locale.ROOT)));
+    public boolean requiresFullAi() {
+        return super.requiresFullAi() || attackAnimationDelay != -1;
     }
 
     @Override
@@ -85,20 +85,29 @@ public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttac
     }
 
     public Type getTerracottaType() {
-        return Type.values()[this.entityData.get(ID_TYPE)];
+        return TYPES[this.getState(TYPE)];
     }
 
     public void setTerracottaType(Type type) {
-        this.entityData.set(ID_TYPE, (byte) type.ordinal());
+        this.setState(TYPE, type.ordinal());
+        this.applyType();
+        this.updateAttackGoals();
+    }
 
+    private void applyType() {
+        Type type = this.getTerracottaType();
         this.getAttribute(Attributes.ATTACK_DAMAGE).setBaseValue(type.attackDamage);
         this.getAttribute(Attributes.KNOCKBACK_RESISTANCE).setBaseValue(type.knockbackResistance);
+    }
 
-        this.goalSelector.removeGoal(this.rangedAttackGoal);
-        if (type.ranged) {
-            this.goalSelector.addGoal(2, this.rangedAttackGoal);
-        }
-        this.updateAttackGoals();
+    @Override
+    public boolean canRangedAttack() {
+        return this.getTerracottaType().ranged;
+    }
+
+    @Override
+    protected RangedAttackGoal getRangedAttackGoal() {
+        return this.rangedAttackGoal;
     }
 
     @Override
@@ -119,7 +128,7 @@ public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttac
     @Nullable
     @Override
     public SpawnGroupData finalizeSpawn(ServerLevelAccessor level, DifficultyInstance difficultyInstance, MobSpawnType mobSpawnType, @Nullable SpawnGroupData spawnGroupData) {
-        this.setTerracottaType(Type.values()[level.getRandom().nextInt(Type.values().length)]);
+        this.setTerracottaType(TYPES[level.getRandom().nextInt(TYPES.length)]);
         return super.finalizeSpawn(level, difficultyInstance, mobSpawnType, spawnGroupData);
     }
 
@@ -182,17 +191,13 @@ public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttac
     }
 
     public void actuallyShoot(LivingEntity target) {
-        if (target == null) return;
-        Projectile projectile = new MudBallProjectile(level(), this);
-        projectile.setPos(getX(), getY(), getZ());
-
+        if (target == null || !(level() instanceof ServerLevel level)) return;
         double x = target.getX() - getX();
-        double y = target.getY() - projectile.getY();
+        double y = target.getY() - getY();
         double z = target.getZ() - getZ();
         double distance = Math.sqrt(x * x + z * z) * 0.2;
-        projectile.shoot(x, y + distance, z, 1, 5);
+        GolemLevelData.of(level).golemoverhaul$getShots().shoot(GolemShotType.MUD_BALL, this, getX(), getY(), getZ(), x, y + distance, z, 1, 5);
 
-        level().addFreshEntity(projectile);
         playSound(SoundEvents.SNOW_GOLEM_SHOOT, 1, 0.4f / (getRandom().nextFloat() * 0.4f + 0.8f));
     }
 
@@ -230,7 +235,7 @@ public class TerracottaGolem extends BaseGolem implements Shearable, RangedAttac
 
         @Nullable
         private Type typeForItem(Item item) {
-            for (Type type : values()) {
+            for (Type type : TYPES) {
                 if (type.equipItem == item) {
                     return type;
                 }
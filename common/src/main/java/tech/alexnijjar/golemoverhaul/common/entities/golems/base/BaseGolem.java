@@ -1,6 +1,10 @@
 package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
 
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.network.syncher.EntityDataAccessor;
+import net.minecraft.network.syncher.EntityDataSerializers;
+import net.minecraft.network.syncher.SynchedEntityData;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvent;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.world.DifficultyInstance;
@@ -20,6 +24,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.ServerLevelAccessor;
+import net.minecraft.world.level.entity.EntityInLevelCallback;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import software.bernie.geckolib.animatable.GeoEntity;
@@ -30,20 +35,39 @@ import software.bernie.geckolib.animation.AnimationState;
 import software.bernie.geckolib.animation.PlayState;
 import software.bernie.geckolib.util.GeckoLibUtil;
 import tech.alexnijjar.golemoverhaul.common.constants.ConstantAnimations;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
 
     public static final byte ATTACK_EVENT_ID = 4;
 
+    private static final EntityDataAccessor<Integer> ID_STATE = SynchedEntityData.defineId(BaseGolem.class, EntityDataSerializers.INT);
+
+    private static final int MELEE_GOAL = 1;
+    private static final int RANGED_GOAL = 1 << 1;
+    private static final int TARGET_GOAL = 1 << 2;
+    private static final int HURT_BY_TARGET_GOAL = 1 << 3;
+    private static final int TARGETABLE = 1 << 4;
+
     private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
 
     private final MeleeAttackGoal meleeAttackGoal = new MeleeAttackGoal(this, 1, true);
     private final HurtByTargetGoal hurtByTargetGoal = new HurtByTargetGoal(this, BaseGolem.class);
     private final NearestAttackableTargetGoal<Mob> attackTargetGoal = new NearestAttackableTargetGoal<>(this, Mob.class, 5, true, false, this::shouldAttack);
 
+    // The attack goals currently in the selectors and whether the golem is targetable, as a mask of the flags above.
+    private int attackGoals;
+
     protected int attackAnimationTicks;
     protected int attackDelayTicks = -1;
 
+    @Nullable
+    private ServerLevel indexedLevel;
+
+    private boolean skipAi;
+    private int ticksSinceAi;
+    private int elapsedAiTicks = 1;
+
     protected BaseGolem(EntityType<? extends AbstractGolem> type, Level level) {
         super(type, level);
         this.updateAttackGoals();
@@ -83,6 +107,35 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         return this.cache;
     }
 
+    @Override
+    protected void defineSynchedData(SynchedEntityData.Builder builder) {
+        super.defineSynchedData(builder);
+        builder.define(ID_STATE, this.getDefaultState());
+    }
+
+    /**
+     * @return The packed state a golem starts with, before any of its flags are set.
+     */
+    protected int getDefaultState() {
+        return 0;
+    }
+
+    protected final boolean getState(GolemState.Flag flag) {
+        return flag.get(this.entityData.get(ID_STATE));
+    }
+
+    protected final void setState(GolemState.Flag flag, boolean value) {
+        this.entityData.set(ID_STATE, flag.set(this.entityData.get(ID_STATE), value));
+    }
+
+    protected final int getState(GolemState.Slice slice) {
+        return slice.get(this.entityData.get(ID_STATE));
+    }
+
+    protected final void setState(GolemState.Slice slice, int value) {
+        this.entityData.set(ID_STATE, slice.set(this.entityData.get(ID_STATE), value));
+    }
+
     @Override
     protected void registerGoals() {
         if (canFloatInWater()) {
@@ -95,17 +148,55 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         this.goalSelector.addGoal(8, new RandomLookAroundGoal(this));
     }
 
+    /**
+     * Adds and removes the attack goals so they match {@link #canMeleeAttack()}, {@link #canRangedAttack()},
+     * {@link #canTarget()} and {@link #selectsOwnTargets()}. Only goals whose state changed since the last call are
+     * touched.
+     */
     public final void updateAttackGoals() {
-        this.goalSelector.removeGoal(this.meleeAttackGoal);
-        this.targetSelector.removeGoal(this.hurtByTargetGoal);
-        this.targetSelector.removeGoal(this.attackTargetGoal);
+        Goal rangedAttackGoal = this.getRangedAttackGoal();
+        int goals = 0;
+        if (canMeleeAttack()) goals |= MELEE_GOAL;
+        if (canRangedAttack() && rangedAttackGoal != null) goals |= RANGED_GOAL;
+        if (canTarget()) {
+            goals |= TARGETABLE | HURT_BY_TARGET_GOAL;
+            if (selectsOwnTargets()) goals |= TARGET_GOAL;
+        }
 
-        if (canMeleeAttack()) {
-            this.goalSelector.addGoal(1, this.meleeAttackGoal);
+        int changed = goals ^ this.attackGoals;
+        if (changed == 0) return;
+        this.attackGoals = goals;
+
+        if ((changed & MELEE_GOAL) != 0) {
+            if ((goals & MELEE_GOAL) != 0) {
+                this.goalSelector.addGoal(1, this.meleeAttackGoal);
+            } else {
+                this.goalSelector.removeGoal(this.meleeAttackGoal);
+            }
         }
-        if (canTarget()) {
-            this.targetSelector.addGoal(2, this.attackTargetGoal);
-            this.targetSelector.addGoal(3, this.hurtByTargetGoal);
+        if ((changed & RANGED_GOAL) != 0) {
+            if ((goals & RANGED_GOAL) != 0) {
+                this.goalSelector.addGoal(2, rangedAttackGoal);
+            } else {
+                this.goalSelector.removeGoal(rangedAttackGoal);
+            }
+        }
+        if ((changed & TARGET_GOAL) != 0) {
+            if ((goals & TARGET_GOAL) != 0) {
+                this.targetSelector.addGoal(2, this.attackTargetGoal);
+            } else {
+                this.targetSelector.removeGoal(this.attackTargetGoal);
+            }
+        }
+        if ((changed & HURT_BY_TARGET_GOAL) != 0) {
+            if ((goals & HURT_BY_TARGET_GOAL) != 0) {
+                this.targetSelector.addGoal(3, this.hurtByTargetGoal);
+            } else {
+                this.targetSelector.removeGoal(this.hurtByTargetGoal);
+            }
+        }
+        if ((changed & TARGETABLE) != 0 && this.indexedLevel != null) {
+            this.updateTargetableIndex(this.indexedLevel);
         }
     }
 
@@ -117,6 +208,26 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         return true;
     }
 
+    /**
+     * @return Whether the golem looks for its own targets while it can target, rather than being given them. Golems
+     * still fight back when hurt either way.
+     */
+    public boolean selectsOwnTargets() {
+        return true;
+    }
+
+    public boolean canRangedAttack() {
+        return false;
+    }
+
+    /**
+     * @return The goal added while {@link #canRangedAttack()} is true, or null if the golem has no ranged attack.
+     */
+    @Nullable
+    protected Goal getRangedAttackGoal() {
+        return null;
+    }
+
     public boolean shouldAttack(LivingEntity entity) {
         return entity instanceof Enemy && !(entity instanceof Creeper);
     }
@@ -223,6 +334,14 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
 
     @Override
     public void aiStep() {
+        if (this.indexedLevel != null) {
+            this.ticksSinceAi++;
+            this.skipAi = !GolemLevelData.of(this.indexedLevel).golemoverhaul$getAiScheduler().shouldRunAi(this);
+            if (!this.skipAi) {
+                this.elapsedAiTicks = this.ticksSinceAi;
+                this.ticksSinceAi = 0;
+            }
+        }
         super.aiStep();
         attackAnimationTicks = Math.max(0, attackAnimationTicks - 1);
         attackDelayTicks = Math.max(-1, attackDelayTicks - 1);
@@ -231,6 +350,35 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         }
     }
 
+    /**
+     * Skips the server AI on ticks the level's scheduler has left out, leaving the golem standing still.
+     */
+    @Override
+    protected boolean isImmobile() {
+        return super.isImmobile() || this.skipAi;
+    }
+
+    /**
+     * @return Whether the golem is busy with something that has to run every tick, regardless of players nearby.
+     */
+    public boolean requiresFullAi() {
+        return getTarget() != null || isAttacking() || this.hurtTime > 0 || isPassenger() || isLeashed();
+    }
+
+    /**
+     * @return The number of ticks since the server AI last ran, for timers advanced in {@link #customServerAiStep()}.
+     */
+    protected final int getElapsedAiTicks() {
+        return this.elapsedAiTicks;
+    }
+
+    /**
+     * @return Whether a multiple of the interval was passed since the server AI last ran.
+     */
+    protected final boolean aiIntervalElapsed(int interval) {
+        return this.tickCount / interval != (this.tickCount - this.elapsedAiTicks) / interval;
+    }
+
     /**
      * A modified version of IronGolem#mobInteract that takes a custom repair item and heal amount.
      */
@@ -249,9 +397,34 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         return InteractionResult.sidedSuccess(this.level().isClientSide());
     }
 
+    /**
+     * @return The fields this golem saves, or null if it doesn't save anything of its own.
+     */
+    @Nullable
+    protected GolemFields<?> getSaveFields() {
+        return null;
+    }
+
+    /**
+     * Applies everything derived from the saved fields, such as attributes and goals, once the whole golem has
+     * loaded.
+     */
+    protected void onSaveDataLoaded() {}
+
     @Override
-    public void readAdditionalSaveData(CompoundTag compound) {
+    public final void addAdditionalSaveData(CompoundTag compound) {
+        super.addAdditionalSaveData(compound);
+        GolemNbt.writeVersion(compound);
+        GolemFields<?> fields = this.getSaveFields();
+        if (fields != null) fields.save(this, compound);
+    }
+
+    @Override
+    public final void readAdditionalSaveData(CompoundTag compound) {
         super.readAdditionalSaveData(compound);
+        GolemFields<?> fields = this.getSaveFields();
+        if (fields != null) fields.load(this, compound);
+        this.onSaveDataLoaded();
         this.updateAttackGoals();
     }
 
@@ -262,6 +435,58 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
         return super.finalizeSpawn(serverLevelAccessor, difficultyInstance, mobSpawnType, spawnGroupData);
     }
 
+    @Override
+    public void setLevelCallback(EntityInLevelCallback callback) {
+        if (callback != EntityInLevelCallback.NULL && this.level() instanceof ServerLevel level) {
+            super.setLevelCallback(new IndexedLevelCallback(callback, level));
+            this.indexedLevel = level;
+            this.addToLevelIndexes(level);
+        } else {
+            super.setLevelCallback(callback);
+        }
+    }
+
+    /**
+     * @return The server level the golem is currently added to, or null if it isn't in one.
+     */
+    @Nullable
+    protected ServerLevel getIndexedLevel() {
+        return this.indexedLevel;
+    }
+
+    /**
+     * Called when the golem is added to a server level, either by spawning or by being loaded from a chunk.
+     */
+    protected void addToLevelIndexes(ServerLevel level) {
+        this.updateTargetableIndex(level);
+        GolemLevelData.of(level).golemoverhaul$getAiScheduler().add(this);
+    }
+
+    /**
+     * Called whenever the golem changes position while it's in a server level.
+     */
+    protected void updateLevelIndexes(ServerLevel level) {
+        GolemLevelData.of(level).golemoverhaul$getTargetableGolems().update(this);
+    }
+
+    /**
+     * Called when the golem leaves a server level, whether it was killed, unloaded or changed dimensions.
+     */
+    protected void removeFromLevelIndexes(ServerLevel level, Entity.RemovalReason reason) {
+        GolemLevelData.of(level).golemoverhaul$getTargetableGolems().remove(this);
+        GolemLevelData.of(level).golemoverhaul$getAiScheduler().remove(this);
+        this.skipAi = false;
+    }
+
+    private void updateTargetableIndex(ServerLevel level) {
+        var index = GolemLevelData.of(level).golemoverhaul$getTargetableGolems();
+        if (canTarget()) {
+            index.add(this);
+        } else {
+            index.remove(this);
+        }
+    }
+
     @Override
     protected SoundEvent getHurtSound(DamageSource damageSource) {
         return SoundEvents.GENERIC_HURT;
@@ -271,4 +496,31 @@ public abstract class BaseGolem extends AbstractGolem implements GeoEntity {
     protected SoundEvent getDeathSound() {
         return SoundEvents.GENERIC_DEATH;
     }
-}
\ No newline at end of file
+
+    /**
+     * Forwards position and removal updates from the level's entity manager to the golem's level indexes.
+     */
+    private class IndexedLevelCallback implements EntityInLevelCallback {
+
+        private final EntityInLevelCallback callback;
+        private final ServerLevel level;
+
+        private IndexedLevelCallback(EntityInLevelCallback callback, ServerLevel level) {
+            this.callback = callback;
+            this.level = level;
+        }
+
+        @Override
+        public void onMove() {
+            this.callback.onMove();
+            updateLevelIndexes(this.level);
+        }
+
+        @Override
+        public void onRemove(Entity.RemovalReason reason) {
+            this.callback.onRemove(reason);
+            indexedLevel = null;
+            removeFromLevelIndexes(this.level, reason);
+        }
+    }
+}
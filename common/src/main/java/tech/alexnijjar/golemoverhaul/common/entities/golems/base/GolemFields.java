@@ -0,0 +1,140 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.util.Mth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.*;
+
+/**
+ * The saved fields of a golem, declared once per type. Loading only writes the raw values back and validates them;
+ * anything derived from them is applied afterwards by {@link BaseGolem#onSaveDataLoaded()}.
+ */
+public final class GolemFields<G extends BaseGolem> {
+
+    private final Field<G>[] fields;
+
+    private GolemFields(List<Field<G>> fields) {
+        //noinspection unchecked
+        this.fields = fields.toArray(Field[]::new);
+    }
+
+    public static <G extends BaseGolem> Builder<G> builder() {
+        return new Builder<>();
+    }
+
+    // Only called by BaseGolem with the golem the fields were declared for.
+    @SuppressWarnings("unchecked")
+    void save(BaseGolem golem, CompoundTag tag) {
+        for (Field<G> field : this.fields) {
+            field.save((G) golem, tag);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    void load(BaseGolem golem, CompoundTag tag) {
+        for (Field<G> field : this.fields) {
+            field.load((G) golem, tag);
+        }
+    }
+
+    public interface Field<G> {
+
+        void save(G golem, CompoundTag tag);
+
+        void load(G golem, CompoundTag tag);
+    }
+
+    @FunctionalInterface
+    public interface BooleanSetter<G> {
+
+        void set(G golem, boolean value);
+    }
+
+    public static final class Builder<G extends BaseGolem> {
+
+        private final List<Field<G>> fields = new ArrayList<>();
+
+        private Builder() {}
+
+        public Builder<G> bool(String key, Predicate<G> getter, BooleanSetter<G> setter) {
+            return this.field(new Field<>() {
+                @Override
+                public void save(G golem, CompoundTag tag) {
+                    tag.putBoolean(key, getter.test(golem));
+                }
+
+                @Override
+                public void load(G golem, CompoundTag tag) {
+                    setter.set(golem, tag.getBoolean(key));
+                }
+            });
+        }
+
+        /**
+         * Values that fit in a byte are saved as one. Loaded values are clamped to the range.
+         */
+        public Builder<G> integer(String key, int min, int max, ToIntFunction<G> getter, ObjIntConsumer<G> setter) {
+            boolean small = min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE;
+            return this.field(new Field<>() {
+                @Override
+                public void save(G golem, CompoundTag tag) {
+                    int value = getter.applyAsInt(golem);
+                    if (small) {
+                        tag.putByte(key, (byte) value);
+                    } else {
+                        tag.putInt(key, value);
+                    }
+                }
+
+                @Override
+                public void load(G golem, CompoundTag tag) {
+                    setter.accept(golem, Mth.clamp(tag.getInt(key), min, max));
+                }
+            });
+        }
+
+        public <E extends Enum<E>> Builder<G> enumeration(String key, E[] values, E fallback, Function<G, E> getter, BiConsumer<G, E> setter) {
+            return this.field(new Field<>() {
+                @Override
+                public void save(G golem, CompoundTag tag) {
+                    GolemNbt.writeEnum(tag, key, getter.apply(golem));
+                }
+
+                @Override
+                public void load(G golem, CompoundTag tag) {
+                    setter.accept(golem, GolemNbt.readEnum(tag, key, values, fallback));
+                }
+            });
+        }
+
+        /**
+         * A uuid that is left out of the save data when null.
+         */
+        public Builder<G> uuid(String key, Function<G, UUID> getter, BiConsumer<G, UUID> setter) {
+            return this.field(new Field<>() {
+                @Override
+                public void save(G golem, CompoundTag tag) {
+                    UUID value = getter.apply(golem);
+                    if (value != null) tag.putUUID(key, value);
+                }
+
+                @Override
+                public void load(G golem, CompoundTag tag) {
+                    if (tag.hasUUID(key)) setter.accept(golem, tag.getUUID(key));
+                }
+            });
+        }
+
+        public Builder<G> field(Field<G> field) {
+            this.fields.add(field);
+            return this;
+        }
+
+        public GolemFields<G> build() {
+            return new GolemFields<>(this.fields);
+        }
+    }
+}
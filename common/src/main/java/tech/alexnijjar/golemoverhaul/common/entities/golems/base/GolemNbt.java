@@ -0,0 +1,48 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+
+/**
+ * Versioned encoding for golem save data. Enums are written as their ordinal, so new constants must only ever be
+ * appended. Data saved before {@link #VERSION} 1 stored enums as lowercase names and is still read.
+ */
+public final class GolemNbt {
+
+    public static final String VERSION_KEY = "GolemDataVersion";
+    public static final int VERSION = 1;
+
+    private GolemNbt() {}
+
+    public static void writeVersion(CompoundTag tag) {
+        tag.putByte(VERSION_KEY, (byte) VERSION);
+    }
+
+    /**
+     * @return The version the data was saved with, or 0 if it predates versioning.
+     */
+    public static int getVersion(CompoundTag tag) {
+        return tag.getByte(VERSION_KEY);
+    }
+
+    public static void writeEnum(CompoundTag tag, String key, Enum<?> value) {
+        tag.putByte(key, (byte) value.ordinal());
+    }
+
+    /**
+     * @return The saved constant, or the fallback if it's missing or doesn't match any constant.
+     */
+    public static <E extends Enum<E>> E readEnum(CompoundTag tag, String key, E[] values, E fallback) {
+        if (getVersion(tag) >= 1 && tag.contains(key, Tag.TAG_BYTE)) {
+            int ordinal = tag.getByte(key);
+            return ordinal >= 0 && ordinal < values.length ? values[ordinal] : fallback;
+        }
+        if (tag.contains(key, Tag.TAG_STRING)) {
+            String name = tag.getString(key);
+            for (E value : values) {
+                if (value.name().equalsIgnoreCase(name)) return value;
+            }
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,48 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
+
+/**
+ * Bit layout of the state every golem syncs to clients as a single int. Each golem declares the flags and slices it
+ * needs from bit 0 upwards, so changing several of them only sends one data entry.
+ */
+public final class GolemState {
+
+    private GolemState() {}
+
+    public record Flag(int mask) {
+
+        public static Flag bit(int bit) {
+            return new Flag(1 << bit);
+        }
+
+        public boolean get(int state) {
+            return (state & this.mask) != 0;
+        }
+
+        public int set(int state, boolean value) {
+            return value ? state | this.mask : state & ~this.mask;
+        }
+    }
+
+    public record Slice(int shift, int mask) {
+
+        public static Slice bits(int shift, int width) {
+            return new Slice(shift, (1 << width) - 1);
+        }
+
+        /**
+         * @return A slice just wide enough to hold the ordinal of every constant in the enum.
+         */
+        public static Slice ordinal(int shift, Class<? extends Enum<?>> type) {
+            int constants = type.getEnumConstants().length;
+            return bits(shift, Math.max(1, 32 - Integer.numberOfLeadingZeros(constants - 1)));
+        }
+
+        public int get(int state) {
+            return state >>> this.shift & this.mask;
+        }
+
+        public int set(int state, int value) {
+            return state & ~(this.mask << this.shift) | (value & this.mask) << this.shift;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package tech.alexnijjar.golemoverhaul.common.entities.projectiles;
+
+import net.minecraft.core.particles.ItemParticleOption;
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.core.particles.ParticleTypes;
+import net.minecraft.sounds.SoundEvent;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.effect.MobEffectInstance;
+import net.minecraft.world.effect.MobEffects;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.Items;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.CandleGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.TerracottaGolem;
+import tech.alexnijjar.golemoverhaul.common.registry.ModItems;
+import tech.alexnijjar.golemoverhaul.common.tags.ModEntityTypeTags;
+
+import java.util.function.Supplier;
+
+/**
+ * The shots golems fire, simulated by {@link tech.alexnijjar.golemoverhaul.common.level.GolemShots} instead of as
+ * entities. Each one behaves like the projectile entity it replaces.
+ */
+public enum GolemShotType {
+    CANDLE_FLAME(0, 0.99, 100, () -> Items.FIRE_CHARGE, SoundEvents.SHULKER_BULLET_HIT) {
+        @Override
+        public void hit(Entity target, DamageSource source) {
+            if (target instanceof CandleGolem || target instanceof TerracottaGolem) return;
+            target.hurt(source, 3);
+            target.igniteForSeconds(5);
+        }
+
+        @Override
+        public @Nullable ParticleOptions impactParticle() {
+            return null;
+        }
+    },
+    MUD_BALL(0.03, 0.99, 200, () -> Items.MUD, SoundEvents.MUD_BREAK) {
+        @Override
+        public void hit(Entity target, DamageSource source) {
+            if (target instanceof TerracottaGolem) return;
+            target.hurt(source, 4);
+        }
+    },
+    HONEY_BLOB(0.05, 0.99, 200, () -> ModItems.HONEY_BLOB.get(), SoundEvents.HONEY_BLOCK_BREAK) {
+        @Override
+        public boolean canHit(Entity target, @Nullable LivingEntity owner) {
+            return super.canHit(target, owner) && !target.getType().is(ModEntityTypeTags.HONEY_IMMUNE);
+        }
+
+        @Override
+        public void hit(Entity target, DamageSource source) {
+            target.hurt(source, 6);
+            if (target instanceof LivingEntity livingEntity) {
+                livingEntity.addEffect(new MobEffectInstance(MobEffects.MOVEMENT_SLOWDOWN, 60, 2));
+            }
+        }
+
+        @Override
+        public ParticleOptions impactParticle() {
+            return new ItemParticleOption(ParticleTypes.ITEM, Items.HONEY_BLOCK.getDefaultInstance());
+        }
+    },
+    ;
+
+    private final double gravity;
+    private final double drag;
+    private final int maxAge;
+    private final Supplier<Item> item;
+    private final SoundEvent impactSound;
+
+    GolemShotType(double gravity, double drag, int maxAge, Supplier<Item> item, SoundEvent impactSound) {
+        this.gravity = gravity;
+        this.drag = drag;
+        this.maxAge = maxAge;
+        this.item = item;
+        this.impactSound = impactSound;
+    }
+
+    public double gravity() {
+        return gravity;
+    }
+
+    public double drag() {
+        return drag;
+    }
+
+    public int maxAge() {
+        return maxAge;
+    }
+
+    /**
+     * @return The item the shot is rendered as.
+     */
+    public Item item() {
+        return item.get();
+    }
+
+    public SoundEvent impactSound() {
+        return impactSound;
+    }
+
+    /**
+     * @return Whether the shot stops at the entity. Shots pass through entities they can't hit.
+     */
+    public boolean canHit(Entity target, @Nullable LivingEntity owner) {
+        return target != owner && target.isAlive() && !target.isSpectator() && target.isPickable();
+    }
+
+    public abstract void hit(Entity target, DamageSource source);
+
+    @Nullable
+    public ParticleOptions impactParticle() {
+        return new ItemParticleOption(ParticleTypes.ITEM, item().getDefaultInstance());
+    }
+
+    /**
+     * Moves a shot forward by a number of ticks, matching the server simulation. Used by clients to place shots
+     * between ticks, so ticks can be fractional.
+     *
+     * @return The offset from where the shot started along one axis.
+     */
+    public double offset(double velocity, double ticks, boolean vertical) {
+        // Closed form of applying the drag and then the gravity once per tick.
+        double travelled = drag == 1 ? ticks : (1 - Math.pow(drag, ticks)) / (1 - drag);
+        double offset = velocity * travelled;
+        if (vertical && gravity != 0) {
+            offset -= drag == 1 ? gravity * ticks * (ticks - 1) / 2 : gravity / (1 - drag) * (ticks - travelled);
+        }
+        return offset;
+    }
+}
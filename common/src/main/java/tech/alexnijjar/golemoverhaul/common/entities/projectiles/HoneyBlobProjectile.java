@@ -17,17 +17,11 @@ import net.minecraft.world.item.Items;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.BlockHitResult;
 import net.minecraft.world.phys.EntityHitResult;
-import software.bernie.geckolib.animatable.GeoEntity;
-import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
-import software.bernie.geckolib.animation.AnimatableManager;
-import software.bernie.geckolib.util.GeckoLibUtil;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 import tech.alexnijjar.golemoverhaul.common.registry.ModItems;
 import tech.alexnijjar.golemoverhaul.common.tags.ModEntityTypeTags;
 
-public class HoneyBlobProjectile extends AbstractArrow implements GeoEntity {
-
-    private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
+public class HoneyBlobProjectile extends AbstractArrow {
 
     public HoneyBlobProjectile(EntityType<? extends AbstractArrow> type, Level level) {
         super(type, level);
@@ -38,14 +32,6 @@ public class HoneyBlobProjectile extends AbstractArrow implements GeoEntity {
         setOwner(owner);
     }
 
-    @Override
-    public AnimatableInstanceCache getAnimatableInstanceCache() {
-        return cache;
-    }
-
-    @Override
-    public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {}
-
     private ParticleOptions getParticle() {
         return new ItemParticleOption(ParticleTypes.ITEM, Items.HONEY_BLOCK.getDefaultInstance());
     }
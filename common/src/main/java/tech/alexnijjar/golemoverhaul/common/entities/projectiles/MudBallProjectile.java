@@ -15,16 +15,10 @@ import net.minecraft.world.level.Level;
 import net.minecraft.world.phys.EntityHitResult;
 import net.minecraft.world.phys.HitResult;
 import org.jetbrains.annotations.Nullable;
-import software.bernie.geckolib.animatable.GeoEntity;
-import software.bernie.geckolib.animatable.instance.AnimatableInstanceCache;
-import software.bernie.geckolib.animation.AnimatableManager;
-import software.bernie.geckolib.util.GeckoLibUtil;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.TerracottaGolem;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 
-public class MudBallProjectile extends ThrowableItemProjectile implements GeoEntity {
-
-    private final AnimatableInstanceCache cache = GeckoLibUtil.createInstanceCache(this);
+public class MudBallProjectile extends ThrowableItemProjectile {
 
     public MudBallProjectile(EntityType<? extends ThrowableItemProjectile> type, Level level) {
         super(type, level);
@@ -35,14 +29,6 @@ public class MudBallProjectile extends ThrowableItemProjectile implements GeoEnt
         setOwner(owner);
     }
 
-    @Override
-    public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {}
-
-    @Override
-    public AnimatableInstanceCache getAnimatableInstanceCache() {
-        return cache;
-    }
-
     @Nullable
     private ParticleOptions getParticle() {
         ItemStack stack = getItem();
@@ -0,0 +1,41 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.phys.AABB;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.KelpGolem;
+
+/**
+ * Pushes conduit pulses to the kelp golems inside their sphere. Kelp golems subscribe by section while they are in
+ * the level, so a pulse only looks at the golems in the sections its area covers.
+ */
+public class ConduitCoverage {
+
+    private final EntitySectionIndex<KelpGolem> golems = new EntitySectionIndex<>();
+
+    public void subscribe(KelpGolem golem) {
+        this.golems.add(golem);
+    }
+
+    public void update(KelpGolem golem) {
+        this.golems.update(golem);
+    }
+
+    public void unsubscribe(KelpGolem golem) {
+        this.golems.remove(golem);
+    }
+
+    /**
+     * Called every time an active conduit applies its effects.
+     *
+     * @param area     The area the conduit looks for players in.
+     * @param distance The radius of the conduit's sphere.
+     */
+    public void pulse(BlockPos pos, AABB area, int distance) {
+        if (this.golems.isEmpty()) return;
+        this.golems.forEachIntersecting(area, golem -> {
+            if (pos.closerThan(golem.blockPosition(), distance) && golem.isInWaterOrRain()) {
+                golem.chargeFromConduit();
+            }
+        });
+    }
+}
@@ -0,0 +1,162 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongMap;
+import it.unimi.dsi.fastutil.objects.Reference2LongOpenHashMap;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * A lightweight index of entities bucketed by the chunk section they are in. Queries only visit the sections that
+ * overlap the search area, or every occupied section if there are fewer of those.
+ */
+public class EntitySectionIndex<T extends Entity> {
+
+    // Entities are bucketed by block position, but their bounding boxes can stick out of their section.
+    private static final double SECTION_MARGIN = 2;
+
+    private final Long2ObjectMap<List<T>> sections = new Long2ObjectOpenHashMap<>();
+    private final Reference2LongMap<T> entitySections = new Reference2LongOpenHashMap<>();
+
+    public void add(T entity) {
+        if (this.entitySections.containsKey(entity)) {
+            this.update(entity);
+            return;
+        }
+        long key = SectionPos.asLong(entity.blockPosition());
+        this.entitySections.put(entity, key);
+        this.sections.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+    }
+
+    public void remove(T entity) {
+        if (!this.entitySections.containsKey(entity)) return;
+        this.removeFromSection(this.entitySections.removeLong(entity), entity);
+    }
+
+    public void update(T entity) {
+        if (!this.entitySections.containsKey(entity)) return;
+        long oldKey = this.entitySections.getLong(entity);
+        long key = SectionPos.asLong(entity.blockPosition());
+        if (oldKey == key) return;
+        this.removeFromSection(oldKey, entity);
+        this.entitySections.put(entity, key);
+        this.sections.computeIfAbsent(key, k -> new ArrayList<>()).add(entity);
+    }
+
+    public boolean contains(T entity) {
+        return this.entitySections.containsKey(entity);
+    }
+
+    public boolean isEmpty() {
+        return this.entitySections.isEmpty();
+    }
+
+    public int size() {
+        return this.entitySections.size();
+    }
+
+    private void removeFromSection(long key, T entity) {
+        List<T> entities = this.sections.get(key);
+        if (entities == null) return;
+        int index = entities.indexOf(entity);
+        if (index == -1) return;
+        // Order doesn't matter, so swap with the last entity instead of shifting the list.
+        int last = entities.size() - 1;
+        entities.set(index, entities.get(last));
+        entities.remove(last);
+        if (entities.isEmpty()) {
+            this.sections.remove(key);
+        }
+    }
+
+    public void forEachIntersecting(AABB area, Consumer<? super T> consumer) {
+        if (this.sections.isEmpty()) return;
+
+        int minX = SectionPos.posToSectionCoord(area.minX - SECTION_MARGIN);
+        int minY = SectionPos.posToSectionCoord(area.minY - SECTION_MARGIN);
+        int minZ = SectionPos.posToSectionCoord(area.minZ - SECTION_MARGIN);
+        int maxX = SectionPos.posToSectionCoord(area.maxX + SECTION_MARGIN);
+        int maxY = SectionPos.posToSectionCoord(area.maxY + SECTION_MARGIN);
+        int maxZ = SectionPos.posToSectionCoord(area.maxZ + SECTION_MARGIN);
+
+        long sectionCount = (long) (maxX - minX + 1) * (maxY - minY + 1) * (maxZ - minZ + 1);
+        if (sectionCount > this.sections.size()) {
+            for (var entry : Long2ObjectMaps.fastIterable(this.sections)) {
+                long key = entry.getLongKey();
+                int x = SectionPos.x(key);
+                int y = SectionPos.y(key);
+                int z = SectionPos.z(key);
+                if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) continue;
+                visit(entry.getValue(), area, consumer);
+            }
+            return;
+        }
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                for (int y = minY; y <= maxY; y++) {
+                    List<T> entities = this.sections.get(SectionPos.asLong(x, y, z));
+                    if (entities != null) {
+                        visit(entities, area, consumer);
+                    }
+                }
+            }
+        }
+    }
+
+    private void visit(List<T> entities, AABB area, Consumer<? super T> consumer) {
+        for (int i = 0; i < entities.size(); i++) {
+            T entity = entities.get(i);
+            if (entity.getBoundingBox().intersects(area)) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
+    /**
+     * @return The entity closest to the given position that intersects the area and passes the predicate.
+     */
+    @Nullable
+    public T findNearest(AABB area, double x, double y, double z, Predicate<? super T> predicate) {
+        var nearest = new Nearest<T>(x, y, z, predicate);
+        this.forEachIntersecting(area, nearest);
+        return nearest.result;
+    }
+
+    private static final class Nearest<T extends Entity> implements Consumer<T> {
+
+        private final double x;
+        private final double y;
+        private final double z;
+        private final Predicate<? super T> predicate;
+
+        @Nullable
+        private T result;
+        private double resultDistance = Double.MAX_VALUE;
+
+        private Nearest(double x, double y, double z, Predicate<? super T> predicate) {
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public void accept(T entity) {
+            double distance = entity.distanceToSqr(this.x, this.y, this.z);
+            if (distance < this.resultDistance && this.predicate.test(entity)) {
+                this.result = entity;
+                this.resultDistance = distance;
+            }
+        }
+    }
+}
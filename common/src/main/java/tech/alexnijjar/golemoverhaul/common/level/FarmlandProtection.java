@@ -0,0 +1,116 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.phys.AABB;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HayGolem;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The farmland hay golems keep from being trampled. Each golem is filed under every 8x8x8 cell its protected area
+ * touches, and only moves between cells when that area crosses a cell boundary, so checking a block only looks at
+ * the golems in its own cell.
+ */
+public class FarmlandProtection {
+
+    /**
+     * How far past its bounding box a hay golem protects farmland.
+     */
+    public static final double RANGE = 10;
+
+    private static final int CELL_SHIFT = 3;
+
+    private final Long2ObjectMap<List<HayGolem>> cells = new Long2ObjectOpenHashMap<>();
+    // The min and max cell coordinates each golem is filed under.
+    private final Reference2ObjectMap<HayGolem, int[]> footprints = new Reference2ObjectOpenHashMap<>();
+
+    public void add(HayGolem golem) {
+        if (this.footprints.containsKey(golem)) {
+            this.update(golem);
+            return;
+        }
+        int[] footprint = new int[6];
+        computeFootprint(golem, footprint);
+        this.footprints.put(golem, footprint);
+        this.forEachCell(footprint, golem, true);
+    }
+
+    public void update(HayGolem golem) {
+        int[] footprint = this.footprints.get(golem);
+        if (footprint == null) return;
+        AABB box = golem.getBoundingBox();
+        if (cell(box.minX - RANGE) == footprint[0] && cell(box.minY - RANGE) == footprint[1] && cell(box.minZ - RANGE) == footprint[2]
+            && cell(box.maxX + RANGE) == footprint[3] && cell(box.maxY + RANGE) == footprint[4] && cell(box.maxZ + RANGE) == footprint[5]) {
+            return;
+        }
+        this.forEachCell(footprint, golem, false);
+        computeFootprint(golem, footprint);
+        this.forEachCell(footprint, golem, true);
+    }
+
+    public void remove(HayGolem golem) {
+        int[] footprint = this.footprints.remove(golem);
+        if (footprint != null) {
+            this.forEachCell(footprint, golem, false);
+        }
+    }
+
+    /**
+     * @return Whether a hay golem is close enough to the block to stop it from being trampled.
+     */
+    public boolean isProtected(BlockPos pos) {
+        List<HayGolem> golems = this.cells.get(BlockPos.asLong(
+            pos.getX() >> CELL_SHIFT,
+            pos.getY() >> CELL_SHIFT,
+            pos.getZ() >> CELL_SHIFT));
+        if (golems == null) return false;
+        for (int i = 0; i < golems.size(); i++) {
+            if (golems.get(i).getBoundingBox().inflate(RANGE).intersects(
+                pos.getX(), pos.getY(), pos.getZ(),
+                pos.getX() + 1, pos.getY() + 1, pos.getZ() + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void forEachCell(int[] footprint, HayGolem golem, boolean add) {
+        for (int x = footprint[0]; x <= footprint[3]; x++) {
+            for (int y = footprint[1]; y <= footprint[4]; y++) {
+                for (int z = footprint[2]; z <= footprint[5]; z++) {
+                    long key = BlockPos.asLong(x, y, z);
+                    if (add) {
+                        this.cells.computeIfAbsent(key, k -> new ArrayList<>()).add(golem);
+                    } else {
+                        List<HayGolem> golems = this.cells.get(key);
+                        if (golems == null) continue;
+                        golems.remove(golem);
+                        if (golems.isEmpty()) {
+                            this.cells.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void computeFootprint(HayGolem golem, int[] footprint) {
+        AABB box = golem.getBoundingBox();
+        footprint[0] = cell(box.minX - RANGE);
+        footprint[1] = cell(box.minY - RANGE);
+        footprint[2] = cell(box.minZ - RANGE);
+        footprint[3] = cell(box.maxX + RANGE);
+        footprint[4] = cell(box.maxY + RANGE);
+        footprint[5] = cell(box.maxZ + RANGE);
+    }
+
+    private static int cell(double coord) {
+        return Mth.floor(coord) >> CELL_SHIFT;
+    }
+}
@@ -0,0 +1,70 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMaps;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+
+import java.util.List;
+
+/**
+ * Decides how often each golem in a level runs its AI, based on how close the nearest player is. Golems near players
+ * run their AI every tick, while golems further away only run it every few ticks.
+ */
+public class GolemAiScheduler {
+
+    private static final int UPDATE_INTERVAL = 20;
+
+    private static final double NEAR_DISTANCE = 32;
+    private static final double MEDIUM_DISTANCE = 80;
+
+    private static final int NEAR_INTERVAL = 1;
+    private static final int MEDIUM_INTERVAL = 3;
+    private static final int FAR_INTERVAL = 10;
+
+    private final Reference2IntMap<BaseGolem> intervals = new Reference2IntOpenHashMap<>();
+
+    public GolemAiScheduler() {
+        this.intervals.defaultReturnValue(NEAR_INTERVAL);
+    }
+
+    public void add(BaseGolem golem) {
+        this.intervals.putIfAbsent(golem, NEAR_INTERVAL);
+    }
+
+    public void remove(BaseGolem golem) {
+        this.intervals.removeInt(golem);
+    }
+
+    /**
+     * @return Whether the golem should run its AI this tick.
+     */
+    public boolean shouldRunAi(BaseGolem golem) {
+        int interval = this.intervals.getInt(golem);
+        if (interval == NEAR_INTERVAL || golem.requiresFullAi()) return true;
+        // Offset by id so far golems don't all run their AI on the same tick.
+        return (golem.tickCount + golem.getId()) % interval == 0;
+    }
+
+    public void tick(ServerLevel level) {
+        if (this.intervals.isEmpty() || level.getGameTime() % UPDATE_INTERVAL != 0) return;
+        List<ServerPlayer> players = level.players();
+        for (var entry : Reference2IntMaps.fastIterable(this.intervals)) {
+            entry.setValue(interval(entry.getKey(), players));
+        }
+    }
+
+    private static int interval(BaseGolem golem, List<ServerPlayer> players) {
+        double nearest = Double.MAX_VALUE;
+        for (int i = 0; i < players.size(); i++) {
+            ServerPlayer player = players.get(i);
+            if (player.isSpectator()) continue;
+            nearest = Math.min(nearest, player.distanceToSqr(golem));
+        }
+        if (nearest <= NEAR_DISTANCE * NEAR_DISTANCE) return NEAR_INTERVAL;
+        if (nearest <= MEDIUM_DISTANCE * MEDIUM_DISTANCE) return MEDIUM_INTERVAL;
+        return FAR_INTERVAL;
+    }
+}
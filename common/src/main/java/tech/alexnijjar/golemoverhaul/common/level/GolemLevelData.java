@@ -0,0 +1,57 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import net.minecraft.server.level.ServerLevel;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+
+public interface GolemLevelData {
+
+    static GolemLevelData of(ServerLevel level) {
+        return (GolemLevelData) level;
+    }
+
+    /**
+     * @return All golems in the level that mobs hunting iron golems are allowed to target.
+     */
+    EntitySectionIndex<BaseGolem> golemoverhaul$getTargetableGolems();
+
+    /**
+     * @return All honey golems in the level, used by bees looking for a hive.
+     */
+    EntitySectionIndex<HoneyGolem> golemoverhaul$getHoneyGolems();
+
+    /**
+     * @return The kelp golems conduits push their pulses to.
+     */
+    ConduitCoverage golemoverhaul$getConduitCoverage();
+
+    /**
+     * @return The farmland kept from being trampled by hay golems.
+     */
+    FarmlandProtection golemoverhaul$getFarmlandProtection();
+
+    /**
+     * @return The netherite golems piglins are angry at.
+     */
+    PiglinAnger golemoverhaul$getPiglinAnger();
+
+    /**
+     * @return The caps on how many coal golems netherite golems can summon.
+     */
+    SummonBudget golemoverhaul$getSummonBudget();
+
+    /**
+     * @return The particles to send to players at the end of the tick.
+     */
+    ParticleDispatcher golemoverhaul$getParticles();
+
+    /**
+     * @return The scheduler deciding how often golems run their AI.
+     */
+    GolemAiScheduler golemoverhaul$getAiScheduler();
+
+    /**
+     * @return The shots fired by golems that are still in the air.
+     */
+    GolemShots golemoverhaul$getShots();
+}
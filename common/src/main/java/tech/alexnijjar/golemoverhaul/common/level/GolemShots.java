@@ -0,0 +1,256 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.damagesource.DamageSource;
+import net.minecraft.world.damagesource.DamageTypes;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.level.ClipContext;
+import net.minecraft.world.phys.AABB;
+import net.minecraft.world.phys.BlockHitResult;
+import net.minecraft.world.phys.HitResult;
+import net.minecraft.world.phys.Vec3;
+import net.minecraft.world.phys.shapes.CollisionContext;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+import tech.alexnijjar.golemoverhaul.common.network.NetworkHandler;
+import tech.alexnijjar.golemoverhaul.common.network.packets.ClientboundGolemShotsPacket;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Simulates the shots fired by golems in a level as plain data instead of entities. Shots are kept in flat arrays that
+ * are reused as shots come and go, and are moved and collided together once per tick. Entities a shot could hit are
+ * looked up once per chunk section per tick and shared by every shot passing through that section. Clients are only
+ * told when a shot is fired and when it hits something, and simulate the flight themselves.
+ */
+public class GolemShots {
+
+    // The same range projectile entities are tracked at.
+    private static final double RANGE = 64;
+    private static final double RANGE_SQR = RANGE * RANGE;
+    // Entity hitboxes are inflated by this much, like projectile entities do.
+    private static final double HIT_MARGIN = 0.3;
+    // Entities are found by the section they're in, but their hitboxes can stick out of it.
+    private static final double SECTION_MARGIN = 2;
+
+    private static final GolemShotType[] TYPES = GolemShotType.values();
+
+    private int size;
+    private int nextId;
+    private int[] ids = new int[16];
+    private byte[] types = new byte[16];
+    private int[] ages = new int[16];
+    private double[] positions = new double[16 * 3];
+    private double[] velocities = new double[16 * 3];
+    private LivingEntity[] owners = new LivingEntity[16];
+
+    private final Long2ObjectMap<List<Entity>> sectionEntities = new Long2ObjectOpenHashMap<>();
+    private final List<ClientboundGolemShotsPacket.Spawn> spawned = new ArrayList<>();
+    private final List<ClientboundGolemShotsPacket.Impact> impacts = new ArrayList<>();
+    // Reused to filter the shots for each player, only copied for players that are sent a packet.
+    private final List<ClientboundGolemShotsPacket.Spawn> playerSpawned = new ArrayList<>();
+    private final List<ClientboundGolemShotsPacket.Impact> playerImpacts = new ArrayList<>();
+
+    /**
+     * Fires a shot from the owner's position, aimed and spread the same way as {@link net.minecraft.world.entity.projectile.Projectile#shoot}.
+     */
+    public void shoot(GolemShotType type, LivingEntity owner, double x, double y, double z, double dirX, double dirY, double dirZ, float velocity, float inaccuracy) {
+        RandomSource random = owner.getRandom();
+        Vec3 movement = new Vec3(dirX, dirY, dirZ).normalize().add(
+            random.triangle(0, 0.0172275 * inaccuracy),
+            random.triangle(0, 0.0172275 * inaccuracy),
+            random.triangle(0, 0.0172275 * inaccuracy)
+        ).scale(velocity);
+
+        if (this.size == this.ids.length) this.grow();
+        int i = this.size++;
+        int id = this.nextId++;
+        this.ids[i] = id;
+        this.types[i] = (byte) type.ordinal();
+        this.ages[i] = 0;
+        this.positions[i * 3] = x;
+        this.positions[i * 3 + 1] = y;
+        this.positions[i * 3 + 2] = z;
+        this.velocities[i * 3] = movement.x;
+        this.velocities[i * 3 + 1] = movement.y;
+        this.velocities[i * 3 + 2] = movement.z;
+        this.owners[i] = owner;
+        this.spawned.add(new ClientboundGolemShotsPacket.Spawn(id, type, x, y, z, (float) movement.x, (float) movement.y, (float) movement.z));
+    }
+
+    private void grow() {
+        int capacity = this.ids.length * 2;
+        this.ids = Arrays.copyOf(this.ids, capacity);
+        this.types = Arrays.copyOf(this.types, capacity);
+        this.ages = Arrays.copyOf(this.ages, capacity);
+        this.positions = Arrays.copyOf(this.positions, capacity * 3);
+        this.velocities = Arrays.copyOf(this.velocities, capacity * 3);
+        this.owners = Arrays.copyOf(this.owners, capacity);
+    }
+
+    public void tick(ServerLevel level) {
+        // Walk backwards as finished shots are swapped with the last one.
+        for (int i = this.size - 1; i >= 0; i--) {
+            if (!this.tickShot(level, i)) this.remove(i);
+        }
+        this.sectionEntities.clear();
+        this.flush(level);
+    }
+
+    // Returns false once the shot is done.
+    private boolean tickShot(ServerLevel level, int i) {
+        GolemShotType type = TYPES[this.types[i]];
+        if (++this.ages[i] > type.maxAge()) return false;
+
+        double x = this.positions[i * 3];
+        double y = this.positions[i * 3 + 1];
+        double z = this.positions[i * 3 + 2];
+        double vx = this.velocities[i * 3];
+        double vy = this.velocities[i * 3 + 1];
+        double vz = this.velocities[i * 3 + 2];
+        if (!level.isLoaded(BlockPos.containing(x, y, z))) return false;
+
+        Vec3 from = new Vec3(x, y, z);
+        Vec3 to = new Vec3(x + vx, y + vy, z + vz);
+        LivingEntity owner = this.owners[i];
+        if (owner != null && owner.isRemoved()) {
+            owner = null;
+            this.owners[i] = null;
+        }
+
+        BlockHitResult blockHit = level.clip(new ClipContext(from, to, ClipContext.Block.COLLIDER, ClipContext.Fluid.NONE, CollisionContext.empty()));
+        if (blockHit.getType() != HitResult.Type.MISS) to = blockHit.getLocation();
+
+        Entity target = this.findTarget(level, type, owner, from, to);
+        if (target != null) {
+            Vec3 hit = target.getBoundingBox().inflate(HIT_MARGIN).clip(from, to).orElse(to);
+            type.hit(target, damageSource(level, owner));
+            this.impact(level, i, type, hit);
+            return false;
+        }
+        if (blockHit.getType() != HitResult.Type.MISS) {
+            this.impact(level, i, type, to);
+            return false;
+        }
+
+        double drag = type.drag();
+        this.positions[i * 3] = to.x;
+        this.positions[i * 3 + 1] = to.y;
+        this.positions[i * 3 + 2] = to.z;
+        this.velocities[i * 3] = vx * drag;
+        this.velocities[i * 3 + 1] = vy * drag - type.gravity();
+        this.velocities[i * 3 + 2] = vz * drag;
+        return true;
+    }
+
+    @Nullable
+    private Entity findTarget(ServerLevel level, GolemShotType type, @Nullable LivingEntity owner, Vec3 from, Vec3 to) {
+        Entity nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        int minX = SectionPos.blockToSectionCoord(Math.min(from.x, to.x));
+        int minY = SectionPos.blockToSectionCoord(Math.min(from.y, to.y));
+        int minZ = SectionPos.blockToSectionCoord(Math.min(from.z, to.z));
+        int maxX = SectionPos.blockToSectionCoord(Math.max(from.x, to.x));
+        int maxY = SectionPos.blockToSectionCoord(Math.max(from.y, to.y));
+        int maxZ = SectionPos.blockToSectionCoord(Math.max(from.z, to.z));
+        for (int sx = minX; sx <= maxX; sx++) {
+            for (int sy = minY; sy <= maxY; sy++) {
+                for (int sz = minZ; sz <= maxZ; sz++) {
+                    for (Entity entity : this.entitiesIn(level, sx, sy, sz)) {
+                        if (!type.canHit(entity, owner)) continue;
+                        Optional<Vec3> hit = entity.getBoundingBox().inflate(HIT_MARGIN).clip(from, to);
+                        if (hit.isEmpty()) continue;
+                        double distance = from.distanceToSqr(hit.get());
+                        if (distance < nearestDistance) {
+                            nearest = entity;
+                            nearestDistance = distance;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private List<Entity> entitiesIn(ServerLevel level, int x, int y, int z) {
+        long key = SectionPos.asLong(x, y, z);
+        List<Entity> entities = this.sectionEntities.get(key);
+        if (entities == null) {
+            AABB area = new AABB(
+                SectionPos.sectionToBlockCoord(x), SectionPos.sectionToBlockCoord(y), SectionPos.sectionToBlockCoord(z),
+                SectionPos.sectionToBlockCoord(x + 1), SectionPos.sectionToBlockCoord(y + 1), SectionPos.sectionToBlockCoord(z + 1)
+            ).inflate(SECTION_MARGIN);
+            entities = level.getEntities((Entity) null, area, Entity::isPickable);
+            this.sectionEntities.put(key, entities);
+        }
+        return entities;
+    }
+
+    // There's no projectile entity, so the owner is both the direct and the causing entity.
+    private static DamageSource damageSource(ServerLevel level, @Nullable LivingEntity owner) {
+        return new DamageSource(level.registryAccess().registryOrThrow(Registries.DAMAGE_TYPE).getHolderOrThrow(DamageTypes.THROWN), owner, owner);
+    }
+
+    private void impact(ServerLevel level, int i, GolemShotType type, Vec3 pos) {
+        level.playSound(null, pos.x, pos.y, pos.z, type.impactSound(), SoundSource.NEUTRAL, 1, 1);
+        this.impacts.add(new ClientboundGolemShotsPacket.Impact(this.ids[i], pos.x, pos.y, pos.z));
+    }
+
+    private void remove(int i) {
+        int last = --this.size;
+        if (i != last) {
+            this.ids[i] = this.ids[last];
+            this.types[i] = this.types[last];
+            this.ages[i] = this.ages[last];
+            System.arraycopy(this.positions, last * 3, this.positions, i * 3, 3);
+            System.arraycopy(this.velocities, last * 3, this.velocities, i * 3, 3);
+            this.owners[i] = this.owners[last];
+        }
+        this.owners[last] = null;
+    }
+
+    private void flush(ServerLevel level) {
+        if (this.spawned.isEmpty() && this.impacts.isEmpty()) return;
+
+        // Players in range of everything, usually all of them, share a single packet.
+        ClientboundGolemShotsPacket everything = null;
+        for (ServerPlayer player : level.players()) {
+            for (ClientboundGolemShotsPacket.Spawn spawn : this.spawned) {
+                if (player.distanceToSqr(spawn.x(), spawn.y(), spawn.z()) <= RANGE_SQR) this.playerSpawned.add(spawn);
+            }
+            // Clients that didn't get the shot ignore the impact, but still show its particles when close enough.
+            for (ClientboundGolemShotsPacket.Impact impact : this.impacts) {
+                if (player.distanceToSqr(impact.x(), impact.y(), impact.z()) <= RANGE_SQR) this.playerImpacts.add(impact);
+            }
+
+            ClientboundGolemShotsPacket packet;
+            if (this.playerSpawned.size() == this.spawned.size() && this.playerImpacts.size() == this.impacts.size()) {
+                if (everything == null) everything = new ClientboundGolemShotsPacket(List.copyOf(this.spawned), List.copyOf(this.impacts));
+                packet = everything;
+            } else if (!this.playerSpawned.isEmpty() || !this.playerImpacts.isEmpty()) {
+                // Packets to a local player are handed over without being encoded, so they can't share the buffers.
+                packet = new ClientboundGolemShotsPacket(List.copyOf(this.playerSpawned), List.copyOf(this.playerImpacts));
+            } else {
+                packet = null;
+            }
+            this.playerSpawned.clear();
+            this.playerImpacts.clear();
+            if (packet != null) NetworkHandler.CHANNEL.sendToPlayer(packet, player);
+        }
+
+        this.spawned.clear();
+        this.impacts.clear();
+    }
+}
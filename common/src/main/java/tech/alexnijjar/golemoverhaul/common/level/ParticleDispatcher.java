@@ -0,0 +1,57 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import net.minecraft.core.particles.ParticleOptions;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.network.protocol.game.ClientboundBundlePacket;
+import net.minecraft.network.protocol.game.ClientboundLevelParticlesPacket;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the particles sent in a level during a tick and sends them at the end of the tick, with one bundle per
+ * player containing only the particles close enough for them to see.
+ */
+public class ParticleDispatcher {
+
+    // The same range vanilla uses for particles that don't override the client's limiter.
+    private static final double RANGE = 32;
+    private static final double RANGE_SQR = RANGE * RANGE;
+    private static final int MAX_BUNDLE_SIZE = 4096;
+
+    private final List<PendingParticles> pending = new ArrayList<>();
+
+    public <T extends ParticleOptions> void send(T particle, double x, double y, double z, int count, double deltaX, double deltaY, double deltaZ, double speed) {
+        var packet = new ClientboundLevelParticlesPacket(particle, false, x, y, z, (float) deltaX, (float) deltaY, (float) deltaZ, (float) speed, count);
+        this.pending.add(new PendingParticles(packet, x, y, z));
+    }
+
+    public void flush(ServerLevel level) {
+        if (this.pending.isEmpty()) return;
+
+        for (ServerPlayer player : level.players()) {
+            List<Packet<? super ClientGamePacketListener>> packets = null;
+            for (PendingParticles particles : this.pending) {
+                if (player.distanceToSqr(particles.x(), particles.y(), particles.z()) > RANGE_SQR) continue;
+                if (packets == null) packets = new ArrayList<>();
+                packets.add(particles.packet());
+            }
+
+            if (packets == null) continue;
+            if (packets.size() == 1) {
+                player.connection.send(packets.get(0));
+                continue;
+            }
+            for (int i = 0; i < packets.size(); i += MAX_BUNDLE_SIZE) {
+                player.connection.send(new ClientboundBundlePacket(packets.subList(i, Math.min(i + MAX_BUNDLE_SIZE, packets.size()))));
+            }
+        }
+
+        this.pending.clear();
+    }
+
+    private record PendingParticles(ClientboundLevelParticlesPacket packet, double x, double y, double z) {}
+}
@@ -0,0 +1,49 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.ai.Brain;
+import net.minecraft.world.entity.ai.memory.MemoryModuleType;
+import net.minecraft.world.entity.ai.memory.NearestVisibleLivingEntities;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.NetheriteGolem;
+
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * The netherite golems in a level that piglins are angry at, which are the ones that haven't been gilded.
+ */
+public class PiglinAnger {
+
+    private final Set<NetheriteGolem> ungildedGolems = new ReferenceOpenHashSet<>();
+
+    public void update(NetheriteGolem golem, boolean ungilded) {
+        if (ungilded) {
+            this.ungildedGolems.add(golem);
+        } else {
+            this.ungildedGolems.remove(golem);
+        }
+    }
+
+    public void remove(NetheriteGolem golem) {
+        this.ungildedGolems.remove(golem);
+    }
+
+    /**
+     * Makes the piglin angry at the closest ungilded golem it can see. The memory is only written when the target
+     * changes.
+     */
+    public void provoke(LivingEntity piglin) {
+        if (this.ungildedGolems.isEmpty()) return;
+        Brain<?> brain = piglin.getBrain();
+        Optional<NearestVisibleLivingEntities> visible = brain.getMemory(MemoryModuleType.NEAREST_VISIBLE_LIVING_ENTITIES);
+        if (visible.isEmpty()) return;
+        Optional<LivingEntity> golem = visible.get().findClosest(this.ungildedGolems::contains);
+        if (golem.isEmpty()) return;
+        UUID target = golem.get().getUUID();
+        if (!brain.getMemory(MemoryModuleType.ANGRY_AT).map(target::equals).orElse(false)) {
+            brain.setMemory(MemoryModuleType.ANGRY_AT, target);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package tech.alexnijjar.golemoverhaul.common.level;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.common.config.GolemOverhaulConfig;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.CoalGolem;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Counts the summoned coal golems in a level by chunk and by the player that summoned them, and decides how many more
+ * a netherite golem is allowed to summon. Summons are cut down to whatever still fits under the caps instead of being
+ * refused outright, and are skipped while the server is already running behind.
+ */
+public class SummonBudget {
+
+    private final Map<CoalGolem, Entry> entries = new Reference2ObjectOpenHashMap<>();
+    private final Long2IntOpenHashMap chunkCounts = new Long2IntOpenHashMap();
+    private final Object2IntOpenHashMap<UUID> playerCounts = new Object2IntOpenHashMap<>();
+
+    private final long[] capHits = new long[Limit.values().length];
+
+    public void add(CoalGolem golem, @Nullable UUID player) {
+        if (this.entries.containsKey(golem)) return;
+        long chunk = golem.chunkPosition().toLong();
+        this.entries.put(golem, new Entry(chunk, player));
+        this.chunkCounts.addTo(chunk, 1);
+        if (player != null) {
+            this.playerCounts.addTo(player, 1);
+        }
+    }
+
+    /**
+     * Moves the golem's count to the chunk it's in now.
+     */
+    public void update(CoalGolem golem) {
+        Entry entry = this.entries.get(golem);
+        if (entry == null) return;
+        long chunk = golem.chunkPosition().toLong();
+        if (chunk == entry.chunk) return;
+        decrement(this.chunkCounts, entry.chunk);
+        this.chunkCounts.addTo(chunk, 1);
+        this.entries.put(golem, new Entry(chunk, entry.player));
+    }
+
+    public void remove(CoalGolem golem) {
+        Entry entry = this.entries.remove(golem);
+        if (entry == null) return;
+        decrement(this.chunkCounts, entry.chunk);
+        if (entry.player != null) {
+            int count = this.playerCounts.addTo(entry.player, -1);
+            if (count <= 1) {
+                this.playerCounts.removeInt(entry.player);
+            }
+        }
+    }
+
+    /**
+     * @return How many of the wanted golems can be summoned at the position, which is less than asked for when a cap
+     * would be exceeded and 0 while the server is over its tick time budget.
+     */
+    public int allowance(ServerLevel level, BlockPos pos, @Nullable UUID player, int wanted) {
+        long budgetNanos = GolemOverhaulConfig.summonTickTimeBudget * 1_000_000L;
+        if (budgetNanos > 0 && level.getServer().getAverageTickTimeNanos() > budgetNanos) {
+            this.capHits[Limit.TICK_TIME.ordinal()]++;
+            return 0;
+        }
+        return fit(pos, player, wanted, true);
+    }
+
+    /**
+     * Checks the caps again when golems granted by {@link #allowance} are spawned, since other summons may have been
+     * spawned in the meantime. The cast was already counted, so this doesn't count cap hits.
+     *
+     * @return How many of the granted golems still fit under the caps at the position.
+     */
+    public int remaining(BlockPos pos, @Nullable UUID player, int granted) {
+        return fit(pos, player, granted, false);
+    }
+
+    private int fit(BlockPos pos, @Nullable UUID player, int wanted, boolean countHits) {
+        int allowed = wanted;
+        allowed = limit(Limit.LEVEL, allowed, GolemOverhaulConfig.maxSummonsPerLevel - this.entries.size(), countHits);
+        allowed = limit(Limit.CHUNK, allowed, GolemOverhaulConfig.maxSummonsPerChunk - this.chunkCounts.get(ChunkPos.asLong(pos)), countHits);
+        if (player != null) {
+            allowed = limit(Limit.PLAYER, allowed, GolemOverhaulConfig.maxSummonsPerPlayer - this.playerCounts.getInt(player), countHits);
+        }
+        return allowed;
+    }
+
+    private int limit(Limit limit, int wanted, int remaining, boolean countHits) {
+        if (wanted <= remaining) return wanted;
+        if (countHits) this.capHits[limit.ordinal()]++;
+        return Math.max(0, remaining);
+    }
+
+    public int count() {
+        return this.entries.size();
+    }
+
+    public int playerCount() {
+        return this.playerCounts.size();
+    }
+
+    public int busiestChunkCount() {
+        int busiest = 0;
+        for (int count : this.chunkCounts.values()) {
+            busiest = Math.max(busiest, count);
+        }
+        return busiest;
+    }
+
+    /**
+     * @return How many summons have been cut down or skipped because of the limit.
+     */
+    public long capHits(Limit limit) {
+        return this.capHits[limit.ordinal()];
+    }
+
+    public void resetCapHits() {
+        Arrays.fill(this.capHits, 0);
+    }
+
+    private static void decrement(Long2IntOpenHashMap counts, long key) {
+        if (counts.addTo(key, -1) <= 1) {
+            counts.remove(key);
+        }
+    }
+
+    private record Entry(long chunk, @Nullable UUID player) {}
+
+    public enum Limit {
+        CHUNK,
+        PLAYER,
+        LEVEL,
+        TICK_TIME,
+    }
+}
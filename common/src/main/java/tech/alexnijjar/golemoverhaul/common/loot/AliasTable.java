@@ -0,0 +1,84 @@
+package tech.alexnijjar.golemoverhaul.common.loot;
+
+import net.minecraft.util.RandomSource;
+
+/**
+ * Picks an index with a probability proportional to its weight in constant time, using Vose's alias method. Each
+ * column holds the probability of keeping its own index and the index to pick otherwise.
+ */
+public final class AliasTable {
+
+    private final float[] probabilities;
+    private final int[] aliases;
+
+    private AliasTable(float[] probabilities, int[] aliases) {
+        this.probabilities = probabilities;
+        this.aliases = aliases;
+    }
+
+    /**
+     * @param weights The weights of each index. Indices with a weight of 0 are never picked, but at least one weight
+     *                has to be positive.
+     */
+    public static AliasTable of(int[] weights) {
+        int size = weights.length;
+        if (size == 0) throw new IllegalArgumentException("An alias table needs at least one weight");
+        long total = 0;
+        for (int weight : weights) {
+            if (weight < 0) throw new IllegalArgumentException("Alias table weights can't be negative: " + weight);
+            total += weight;
+        }
+        if (total == 0) throw new IllegalArgumentException("An alias table needs at least one positive weight");
+
+        float[] probabilities = new float[size];
+        int[] aliases = new int[size];
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = (double) weights[i] * size / total;
+            // A weight of 0 is always small, so it's paired with a large column and only ever picks that column.
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probabilities[less] = (float) scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left is within rounding error of 1.
+        while (largeCount > 0) {
+            int index = large[--largeCount];
+            probabilities[index] = 1;
+            aliases[index] = index;
+        }
+        while (smallCount > 0) {
+            int index = small[--smallCount];
+            probabilities[index] = 1;
+            aliases[index] = index;
+        }
+        return new AliasTable(probabilities, aliases);
+    }
+
+    public int sample(RandomSource random) {
+        int column = random.nextInt(this.probabilities.length);
+        return random.nextFloat() < this.probabilities[column] ? column : this.aliases[column];
+    }
+
+    public int size() {
+        return this.probabilities.length;
+    }
+}
@@ -0,0 +1,199 @@
+package tech.alexnijjar.golemoverhaul.common.loot;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.Mth;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.loot.LootContext;
+import net.minecraft.world.level.storage.loot.LootParams;
+import net.minecraft.world.level.storage.loot.LootPool;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.level.storage.loot.entries.LootPoolEntry;
+import net.minecraft.world.level.storage.loot.entries.LootPoolEntryContainer;
+import net.minecraft.world.level.storage.loot.entries.LootPoolSingletonContainer;
+import net.minecraft.world.level.storage.loot.functions.LootItemConditionalFunction;
+import net.minecraft.world.level.storage.loot.functions.LootItemFunction;
+import net.minecraft.world.level.storage.loot.functions.SetComponentsFunction;
+import net.minecraft.world.level.storage.loot.functions.SetItemCountFunction;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import net.minecraft.world.level.storage.loot.providers.number.ConstantValue;
+import net.minecraft.world.level.storage.loot.providers.number.NumberProvider;
+import net.minecraft.world.level.storage.loot.providers.number.UniformGenerator;
+import org.jetbrains.annotations.Nullable;
+import tech.alexnijjar.golemoverhaul.mixins.common.LootItemConditionalFunctionAccessor;
+import tech.alexnijjar.golemoverhaul.mixins.common.LootPoolAccessor;
+import tech.alexnijjar.golemoverhaul.mixins.common.LootPoolEntryContainerAccessor;
+import tech.alexnijjar.golemoverhaul.mixins.common.LootPoolSingletonContainerAccessor;
+import tech.alexnijjar.golemoverhaul.mixins.common.LootTableAccessor;
+import tech.alexnijjar.golemoverhaul.mixins.common.SetItemCountFunctionAccessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A barter loot table compiled into alias tables, so a roll picks an entry in constant time instead of walking the
+ * entries and expanding tags. Entries that only set their count or components are turned into item stacks to copy,
+ * while entries with any other function still run them through a loot context. Tables using anything that depends on
+ * the context, like conditions, aren't compiled at all and are rolled as usual.
+ * <p>
+ * The table is compiled the first time it's rolled after a reload, since reloading replaces the loot table instance.
+ */
+public final class BarterTable {
+
+    private final ResourceKey<LootTable> key;
+
+    @Nullable
+    private LootTable source;
+
+    @Nullable
+    private Pool[] pools;
+
+    public BarterTable(ResourceKey<LootTable> key) {
+        this.key = key;
+    }
+
+    public List<ItemStack> getRandomItems(ServerLevel level, Entity entity) {
+        LootTable table = level.getServer().reloadableRegistries().getLootTable(this.key);
+        if (table != this.source) {
+            this.source = table;
+            this.pools = compile(level, entity, table);
+        }
+        if (this.pools == null) {
+            return table.getRandomItems(createParams(level, entity));
+        }
+
+        Optional<ResourceLocation> randomSequence = ((LootTableAccessor) table).getRandomSequence();
+        RandomSource random = randomSequence.map(level::getRandomSequence).orElseGet(level::getRandom);
+        List<ItemStack> items = new ArrayList<>();
+        Consumer<ItemStack> output = LootTable.createStackSplitter(level, items::add);
+        LootContext context = null;
+
+        for (Pool pool : this.pools) {
+            for (int rolls = pool.rolls.sample(random); rolls > 0; rolls--) {
+                Entry entry = pool.entries[pool.weights.sample(random)];
+                if (entry.prototype != null) {
+                    output.accept(entry.prototype.copyWithCount(entry.count.sample(random)));
+                } else {
+                    if (context == null) {
+                        context = new LootContext.Builder(createParams(level, entity)).create(randomSequence);
+                    }
+                    entry.entry.createItemStack(output, context);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static LootParams createParams(ServerLevel level, Entity entity) {
+        return new LootParams.Builder(level).withParameter(LootContextParams.THIS_ENTITY, entity).create(LootContextParamSets.PIGLIN_BARTER);
+    }
+
+    @Nullable
+    private static Pool[] compile(ServerLevel level, Entity entity, LootTable table) {
+        LootTableAccessor tableAccessor = (LootTableAccessor) table;
+        if (!tableAccessor.getFunctions().isEmpty()) return null;
+        // Only used to expand entries and make the prototype stacks, which doesn't touch the table's random sequence.
+        LootContext context = new LootContext.Builder(createParams(level, entity)).create(Optional.empty());
+
+        List<Pool> pools = new ArrayList<>();
+        for (LootPool pool : tableAccessor.getPools()) {
+            LootPoolAccessor poolAccessor = (LootPoolAccessor) pool;
+            if (!poolAccessor.getConditions().isEmpty() || !poolAccessor.getFunctions().isEmpty()) return null;
+            // Bonus rolls are ignored as they only apply with luck, which barter contexts don't have.
+            IntRange rolls = IntRange.of(poolAccessor.getRolls());
+            if (rolls == null) return null;
+
+            List<Entry> entries = new ArrayList<>();
+            IntArrayList weights = new IntArrayList();
+            for (LootPoolEntryContainer container : poolAccessor.getEntries()) {
+                if (!(container instanceof LootPoolSingletonContainer singleton)) return null;
+                if (!((LootPoolEntryContainerAccessor) container).getConditions().isEmpty()) return null;
+                IntRange count = getCount(((LootPoolSingletonContainerAccessor) singleton).getFunctions());
+                singleton.expand(context, entry -> {
+                    int weight = entry.getWeight(0);
+                    if (weight <= 0) return;
+                    weights.add(weight);
+                    entries.add(Entry.create(entry, count, context));
+                });
+            }
+            if (!entries.isEmpty()) {
+                pools.add(new Pool(rolls, entries.toArray(Entry[]::new), AliasTable.of(weights.toIntArray())));
+            }
+        }
+        return pools.toArray(Pool[]::new);
+    }
+
+    /**
+     * @return The count set by the functions, {@link IntRange#UNCHANGED} if they don't set one, or null if any of them
+     * can't be precomputed.
+     */
+    @Nullable
+    private static IntRange getCount(List<LootItemFunction> functions) {
+        IntRange count = IntRange.UNCHANGED;
+        for (LootItemFunction function : functions) {
+            if (!(function instanceof LootItemConditionalFunction) || !((LootItemConditionalFunctionAccessor) function).getPredicates().isEmpty()) {
+                return null;
+            }
+            if (function instanceof SetItemCountFunction setCount) {
+                SetItemCountFunctionAccessor accessor = (SetItemCountFunctionAccessor) setCount;
+                if (accessor.isAdd()) return null;
+                count = IntRange.of(accessor.getValue());
+                if (count == null) return null;
+            } else if (!(function instanceof SetComponentsFunction)) {
+                return null;
+            }
+        }
+        return count;
+    }
+
+    private record Pool(IntRange rolls, Entry[] entries, AliasTable weights) {}
+
+    /**
+     * Either a prototype stack copied with a count from the range, or an entry that has to be run through the loot
+     * pipeline.
+     */
+    private record Entry(@Nullable ItemStack prototype, IntRange count, LootPoolEntry entry) {
+
+        private static Entry create(LootPoolEntry entry, @Nullable IntRange count, LootContext context) {
+            if (count == null) return new Entry(null, IntRange.UNCHANGED, entry);
+            List<ItemStack> stacks = new ArrayList<>(1);
+            entry.createItemStack(stacks::add, context);
+            if (stacks.size() != 1 || stacks.get(0).isEmpty()) return new Entry(null, IntRange.UNCHANGED, entry);
+            ItemStack stack = stacks.get(0);
+            if (count == IntRange.UNCHANGED) {
+                count = new IntRange(stack.getCount(), stack.getCount());
+            }
+            return new Entry(stack.copyWithCount(1), count, entry);
+        }
+    }
+
+    private record IntRange(int min, int max) {
+
+        private static final IntRange UNCHANGED = new IntRange(-1, -1);
+
+        @Nullable
+        private static IntRange of(NumberProvider provider) {
+            if (provider instanceof ConstantValue constant) {
+                int value = Math.round(constant.value());
+                return new IntRange(value, value);
+            }
+            if (provider instanceof UniformGenerator uniform
+                && uniform.min() instanceof ConstantValue min
+                && uniform.max() instanceof ConstantValue max) {
+                return new IntRange(Math.round(min.value()), Math.round(max.value()));
+            }
+            return null;
+        }
+
+        private int sample(RandomSource random) {
+            return Mth.nextInt(random, this.min, this.max);
+        }
+    }
+}
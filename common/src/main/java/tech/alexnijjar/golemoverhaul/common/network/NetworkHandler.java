@@ -3,14 +3,30 @@ package tech.alexnijjar.golemoverhaul.common.network;
 
 import com.teamresourceful.resourcefullib.common.network.Network;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.player.Player;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
+import tech.alexnijjar.golemoverhaul.common.network.packets.ClientboundGolemShotsPacket;
 import tech.alexnijjar.golemoverhaul.common.network.packets.ServerboundGolemSummonPacket;
 
+import java.util.function.Consumer;
+
 public class NetworkHandler {
 
     public static final Network CHANNEL = new Network(new ResourceLocation(GolemOverhaul.MOD_ID, "main"), 1);
 
     public static void init() {
         CHANNEL.register(ServerboundGolemSummonPacket.TYPE);
+        CHANNEL.register(ClientboundGolemShotsPacket.TYPE);
+    }
+
+    /**
+     * Wraps a serverbound handler so packets over the rate limit are dropped before the handler sees them.
+     */
+    public static Consumer<Player> guard(PacketRateLimit limit, Consumer<Player> handler) {
+        return player -> {
+            if (limit.tryAcquire(player)) {
+                handler.accept(player);
+            }
+        };
     }
 }
@@ -0,0 +1,31 @@
+package tech.alexnijjar.golemoverhaul.common.network;
+
+import java.util.Arrays;
+
+/**
+ * A player's buckets for every {@link PacketRateLimit}. Each bucket is a single timestamp, the time at which it
+ * would be completely full again, so taking a token is a comparison and an addition.
+ */
+public final class PacketBuckets {
+
+    private long[] fullAt = new long[0];
+
+    synchronized boolean tryAcquire(PacketRateLimit limit, long now) {
+        int index = limit.index();
+        if (index >= this.fullAt.length) {
+            int length = this.fullAt.length;
+            this.fullAt = Arrays.copyOf(this.fullAt, index + 1);
+            // nanoTime can be negative, so new buckets start infinitely far in the past rather than at 0.
+            Arrays.fill(this.fullAt, length, index + 1, Long.MIN_VALUE);
+        }
+        long fullAt = Math.max(this.fullAt[index], now);
+        if (fullAt - now > limit.tolerance()) return false;
+        this.fullAt[index] = fullAt + limit.interval();
+        return true;
+    }
+
+    public interface Holder {
+
+        PacketBuckets golemoverhaul$getPacketBuckets();
+    }
+}
@@ -0,0 +1,74 @@
+package tech.alexnijjar.golemoverhaul.common.network;
+
+import net.minecraft.world.entity.player.Player;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A token bucket for one serverbound packet type. Every player gets their own bucket holding up to {@code burst}
+ * packets, refilled at {@code perSecond}. Packets that find the bucket empty are dropped and counted.
+ */
+public final class PacketRateLimit {
+
+    private static final List<PacketRateLimit> LIMITS = new ArrayList<>();
+
+    private final int index;
+    private final String name;
+    private final long interval;
+    private final long tolerance;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private PacketRateLimit(int index, String name, int burst, double perSecond) {
+        this.index = index;
+        this.name = name;
+        this.interval = (long) (1_000_000_000L / perSecond);
+        this.tolerance = this.interval * (burst - 1);
+    }
+
+    public static synchronized PacketRateLimit create(String name, int burst, double perSecond) {
+        PacketRateLimit limit = new PacketRateLimit(LIMITS.size(), name, burst, perSecond);
+        LIMITS.add(limit);
+        return limit;
+    }
+
+    public static List<PacketRateLimit> all() {
+        return Collections.unmodifiableList(LIMITS);
+    }
+
+    /**
+     * Takes a token from the player's bucket. Packets should be handled only if this returns true.
+     */
+    public boolean tryAcquire(Player player) {
+        if (!(player instanceof PacketBuckets.Holder holder)) return true;
+        if (holder.golemoverhaul$getPacketBuckets().tryAcquire(this, System.nanoTime())) return true;
+        this.dropped.incrementAndGet();
+        return false;
+    }
+
+    int index() {
+        return this.index;
+    }
+
+    long interval() {
+        return this.interval;
+    }
+
+    long tolerance() {
+        return this.tolerance;
+    }
+
+    public String name() {
+        return this.name;
+    }
+
+    public long dropped() {
+        return this.dropped.get();
+    }
+
+    public void resetDropped() {
+        this.dropped.set(0);
+    }
+}
@@ -0,0 +1,88 @@
+package tech.alexnijjar.golemoverhaul.common.network.packets;
+
+import com.teamresourceful.bytecodecs.base.ByteCodec;
+import com.teamresourceful.bytecodecs.base.object.ObjectByteCodec;
+import com.teamresourceful.resourcefullib.common.network.Packet;
+import com.teamresourceful.resourcefullib.common.network.base.ClientboundPacketType;
+import com.teamresourceful.resourcefullib.common.network.base.PacketType;
+import com.teamresourceful.resourcefullib.common.network.defaults.CodecPacketType;
+import io.netty.handler.codec.DecoderException;
+import net.minecraft.resources.ResourceLocation;
+import tech.alexnijjar.golemoverhaul.GolemOverhaul;
+import tech.alexnijjar.golemoverhaul.common.entities.projectiles.GolemShotType;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The golem shots fired and finished in a tick. Clients simulate the flight of a shot from where it was fired, so
+ * nothing is sent while it is in the air.
+ */
+public record ClientboundGolemShotsPacket(List<Spawn> spawned, List<Impact> impacts) implements Packet<ClientboundGolemShotsPacket> {
+
+    public static final ClientboundPacketType<ClientboundGolemShotsPacket> TYPE = new Type();
+
+    private static final GolemShotType[] SHOT_TYPES = GolemShotType.values();
+    private static final ByteCodec<GolemShotType> SHOT_TYPE_CODEC = ByteCodec.BYTE.map(
+        id -> {
+            if (id < 0 || id >= SHOT_TYPES.length) throw new DecoderException("Unknown golem shot type " + id);
+            return SHOT_TYPES[id];
+        },
+        type -> (byte) type.ordinal());
+
+    // Set by the client, so this class doesn't load client only code on dedicated servers.
+    private static Consumer<ClientboundGolemShotsPacket> handler = packet -> {};
+
+    public static void setHandler(Consumer<ClientboundGolemShotsPacket> handler) {
+        ClientboundGolemShotsPacket.handler = handler;
+    }
+
+    public record Spawn(int id, GolemShotType type, double x, double y, double z, float velocityX, float velocityY, float velocityZ) {
+
+        public static final ByteCodec<Spawn> CODEC = ObjectByteCodec.create(
+            ByteCodec.INT.fieldOf(Spawn::id),
+            SHOT_TYPE_CODEC.fieldOf(Spawn::type),
+            ByteCodec.DOUBLE.fieldOf(Spawn::x),
+            ByteCodec.DOUBLE.fieldOf(Spawn::y),
+            ByteCodec.DOUBLE.fieldOf(Spawn::z),
+            ByteCodec.FLOAT.fieldOf(Spawn::velocityX),
+            ByteCodec.FLOAT.fieldOf(Spawn::velocityY),
+            ByteCodec.FLOAT.fieldOf(Spawn::velocityZ),
+            Spawn::new
+        );
+    }
+
+    public record Impact(int id, double x, double y, double z) {
+
+        public static final ByteCodec<Impact> CODEC = ObjectByteCodec.create(
+            ByteCodec.INT.fieldOf(Impact::id),
+            ByteCodec.DOUBLE.fieldOf(Impact::x),
+            ByteCodec.DOUBLE.fieldOf(Impact::y),
+            ByteCodec.DOUBLE.fieldOf(Impact::z),
+            Impact::new
+        );
+    }
+
+    @Override
+    public PacketType<ClientboundGolemShotsPacket> type() {
+        return TYPE;
+    }
+
+    private static class Type extends CodecPacketType<ClientboundGolemShotsPacket> implements ClientboundPacketType<ClientboundGolemShotsPacket> {
+
+        public Type() {
+            super(ClientboundGolemShotsPacket.class,
+                new ResourceLocation(GolemOverhaul.MOD_ID, "golem_shots"),
+                ObjectByteCodec.create(
+                    Spawn.CODEC.listOf().fieldOf(ClientboundGolemShotsPacket::spawned),
+                    Impact.CODEC.listOf().fieldOf(ClientboundGolemShotsPacket::impacts),
+                    ClientboundGolemShotsPacket::new
+                ));
+        }
+
+        @Override
+        public Runnable handle(ClientboundGolemShotsPacket message) {
+            return () -> handler.accept(message);
+        }
+    }
+}
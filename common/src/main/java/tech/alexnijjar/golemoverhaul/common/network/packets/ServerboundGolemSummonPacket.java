@@ -9,6 +9,8 @@ import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.player.Player;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.NetheriteGolem;
+import tech.alexnijjar.golemoverhaul.common.network.NetworkHandler;
+import tech.alexnijjar.golemoverhaul.common.network.PacketRateLimit;
 
 import java.util.function.Consumer;
 
@@ -16,6 +18,9 @@ public class ServerboundGolemSummonPacket implements Packet<ServerboundGolemSumm
 
     public static final ServerboundPacketType<ServerboundGolemSummonPacket> TYPE = new Type();
 
+    // Summoning has a minute long cooldown, so a player never needs to send more than the odd key press.
+    private static final PacketRateLimit RATE_LIMIT = PacketRateLimit.create("golem_summon", 4, 2);
+
     @Override
     public PacketType<ServerboundGolemSummonPacket> type() {
         return TYPE;
@@ -31,11 +36,12 @@ public class ServerboundGolemSummonPacket implements Packet<ServerboundGolemSumm
 
         @Override
         public Consumer<Player> handle(ServerboundGolemSummonPacket message) {
-            return player -> {
-                if (player.getVehicle() instanceof NetheriteGolem golem) {
+            return NetworkHandler.guard(RATE_LIMIT, player -> {
+                if (!player.isAlive()) return;
+                if (player.getVehicle() instanceof NetheriteGolem golem && golem.getControllingPassenger() == player) {
                     golem.summon();
                 }
-            };
+            });
         }
     }
 }
@@ -0,0 +1,173 @@
+package tech.alexnijjar.golemoverhaul.common.profiling;
+
+import it.unimi.dsi.fastutil.objects.*;
+import jdk.jfr.EventType;
+import net.minecraft.core.SectionPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Measures how long each golem type takes to tick and how much it allocates. Samples are kept in histograms per type
+ * and phase over a rolling window, and emitted as {@link GolemTickEvent}s while a JFR recording is running. Only
+ * accessed from the server thread.
+ */
+public final class GolemProfiler {
+
+    // Samples older than two windows are dropped.
+    private static final int WINDOW_TICKS = 20 * 60;
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(GolemTickEvent.class);
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean ALLOCATIONS_SUPPORTED = THREADS instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported();
+
+    private static boolean enabled;
+    private static long windowIndex;
+    private static Window current = new Window();
+    private static Window previous = new Window();
+
+    public enum Phase {
+        TICK,
+        AI_STEP,
+        CUSTOM_AI_STEP,
+    }
+
+    public record TypeStats(EntityType<?> type, Phase phase, TickHistogram histogram) {}
+
+    public record ChunkStats(ResourceKey<Level> dimension, ChunkPos pos, long totalNanos, EntityType<?> worstType) {}
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        GolemProfiler.enabled = enabled;
+    }
+
+    public static void reset() {
+        current = new Window();
+        previous = new Window();
+    }
+
+    /**
+     * @return Whether golem ticks should be measured, either for the histograms or for JFR.
+     */
+    public static boolean isActive() {
+        return enabled || EVENT_TYPE.isEnabled();
+    }
+
+    /**
+     * @return The bytes allocated by the current thread so far, or -1 if the JVM can't measure it.
+     */
+    public static long allocatedBytes() {
+        if (!ALLOCATIONS_SUPPORTED) return -1;
+        return ((com.sun.management.ThreadMXBean) THREADS).getThreadAllocatedBytes(Thread.currentThread().threadId());
+    }
+
+    /**
+     * Records a phase of a golem tick that started at the given time and allocation counter.
+     */
+    public static void record(BaseGolem golem, Phase phase, long startNanos, long startBytes) {
+        long nanos = System.nanoTime() - startNanos;
+        long bytes = startBytes < 0 ? 0 : allocatedBytes() - startBytes;
+        int chunkX = SectionPos.blockToSectionCoord(golem.getBlockX());
+        int chunkZ = SectionPos.blockToSectionCoord(golem.getBlockZ());
+
+        if (EVENT_TYPE.isEnabled()) {
+            GolemTickEvent event = new GolemTickEvent();
+            event.entityType = EntityType.getKey(golem.getType()).toString();
+            event.phase = phase.name();
+            event.chunkX = chunkX;
+            event.chunkZ = chunkZ;
+            event.tickTime = nanos;
+            event.allocated = bytes;
+            event.commit();
+        }
+
+        if (!enabled) return;
+        MinecraftServer server = golem.getServer();
+        if (server != null) rotate(server.getTickCount());
+        TickHistogram[] histograms = current.types.computeIfAbsent(golem.getType(), t -> new TickHistogram[Phase.values().length]);
+        if (histograms[phase.ordinal()] == null) histograms[phase.ordinal()] = new TickHistogram();
+        histograms[phase.ordinal()].record(nanos, bytes);
+
+        if (phase == Phase.TICK) {
+            ChunkKey key = new ChunkKey(golem.level().dimension(), ChunkPos.asLong(chunkX, chunkZ));
+            current.chunks.computeIfAbsent(key, k -> new Object2LongOpenHashMap<>()).addTo(golem.getType(), nanos);
+        }
+    }
+
+    private static void rotate(int tick) {
+        long index = tick / WINDOW_TICKS;
+        if (index == windowIndex) return;
+        previous = index == windowIndex + 1 ? current : new Window();
+        current = new Window();
+        windowIndex = index;
+    }
+
+    /**
+     * @return The type and phase combinations that took the most time in total, most expensive first.
+     */
+    public static List<TypeStats> topTypes(Phase phase, int limit) {
+        Reference2ObjectMap<EntityType<?>, TickHistogram> merged = new Reference2ObjectOpenHashMap<>();
+        for (Window window : List.of(previous, current)) {
+            for (var entry : window.types.entrySet()) {
+                TickHistogram histogram = entry.getValue()[phase.ordinal()];
+                if (histogram == null) continue;
+                merged.computeIfAbsent(entry.getKey(), t -> new TickHistogram()).add(histogram);
+            }
+        }
+        return merged.entrySet().stream()
+            .map(entry -> new TypeStats(entry.getKey(), phase, entry.getValue()))
+            .sorted(Comparator.comparingLong((TypeStats stats) -> stats.histogram().totalNanos()).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    /**
+     * @return The chunks whose golems took the most time in total, most expensive first.
+     */
+    public static List<ChunkStats> topChunks(int limit) {
+        Map<ChunkKey, Object2LongOpenHashMap<EntityType<?>>> merged = new Object2ObjectOpenHashMap<>();
+        for (Window window : List.of(previous, current)) {
+            window.chunks.forEach((key, types) -> {
+                Object2LongOpenHashMap<EntityType<?>> mergedTypes = merged.computeIfAbsent(key, k -> new Object2LongOpenHashMap<>());
+                types.object2LongEntrySet().forEach(entry -> mergedTypes.addTo(entry.getKey(), entry.getLongValue()));
+            });
+        }
+        return merged.entrySet().stream()
+            .map(entry -> {
+                long total = 0;
+                EntityType<?> worst = null;
+                long worstNanos = -1;
+                for (var type : entry.getValue().object2LongEntrySet()) {
+                    total += type.getLongValue();
+                    if (type.getLongValue() > worstNanos) {
+                        worst = type.getKey();
+                        worstNanos = type.getLongValue();
+                    }
+                }
+                ChunkKey key = entry.getKey();
+                return new ChunkStats(key.dimension(), new ChunkPos(key.pos()), total, worst);
+            })
+            .sorted(Comparator.comparingLong(ChunkStats::totalNanos).reversed())
+            .limit(limit)
+            .toList();
+    }
+
+    private record ChunkKey(ResourceKey<Level> dimension, long pos) {}
+
+    private static final class Window {
+        private final Reference2ObjectMap<EntityType<?>, TickHistogram[]> types = new Reference2ObjectOpenHashMap<>();
+        private final Map<ChunkKey, Object2LongOpenHashMap<EntityType<?>>> chunks = new Object2ObjectOpenHashMap<>();
+    }
+}
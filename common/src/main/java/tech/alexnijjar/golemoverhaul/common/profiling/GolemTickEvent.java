@@ -0,0 +1,35 @@
+package tech.alexnijjar.golemoverhaul.common.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * Recorded by {@link GolemProfiler} for every profiled golem tick phase while a JFR recording with this event is
+ * running.
+ */
+@Name("golemoverhaul.GolemTick")
+@Label("Golem Tick")
+@Category("Golem Overhaul")
+@Description("Time and allocations of a single golem tick phase")
+@StackTrace(false)
+public class GolemTickEvent extends Event {
+
+    @Label("Entity Type")
+    public String entityType;
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Chunk X")
+    public int chunkX;
+
+    @Label("Chunk Z")
+    public int chunkZ;
+
+    @Label("Tick Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long tickTime;
+
+    @Label("Allocated")
+    @DataAmount
+    public long allocated;
+}
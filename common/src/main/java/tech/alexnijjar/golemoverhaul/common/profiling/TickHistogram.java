@@ -0,0 +1,82 @@
+package tech.alexnijjar.golemoverhaul.common.profiling;
+
+/**
+ * A histogram of tick times with buckets that grow exponentially, so percentiles are accurate to within an eighth of
+ * the value no matter how long the tick took.
+ */
+public class TickHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKETS];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+    private long totalBytes;
+
+    public void record(long nanos, long bytes) {
+        nanos = Math.max(0, nanos);
+        this.counts[bucket(nanos)]++;
+        this.count++;
+        this.totalNanos += nanos;
+        this.maxNanos = Math.max(this.maxNanos, nanos);
+        this.totalBytes += Math.max(0, bytes);
+    }
+
+    public void add(TickHistogram other) {
+        for (int i = 0; i < BUCKETS; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.count += other.count;
+        this.totalNanos += other.totalNanos;
+        this.maxNanos = Math.max(this.maxNanos, other.maxNanos);
+        this.totalBytes += other.totalBytes;
+    }
+
+    public long count() {
+        return this.count;
+    }
+
+    public long totalNanos() {
+        return this.totalNanos;
+    }
+
+    public long maxNanos() {
+        return this.maxNanos;
+    }
+
+    public long meanNanos() {
+        return this.count == 0 ? 0 : this.totalNanos / this.count;
+    }
+
+    public long meanBytes() {
+        return this.count == 0 ? 0 : this.totalBytes / this.count;
+    }
+
+    public long percentileNanos(double percentile) {
+        if (this.count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile * this.count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.counts[i];
+            if (seen >= rank) return Math.min(lowerBound(i), this.maxNanos);
+        }
+        return this.maxNanos;
+    }
+
+    private static int bucket(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int mantissa = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + mantissa;
+    }
+
+    private static long lowerBound(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int mantissa = bucket % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + mantissa) << (exponent - SUB_BUCKET_BITS);
+    }
+}
@@ -8,33 +8,57 @@ import com.teamresourceful.bytecodecs.base.object.ObjectByteCodec;
 import com.teamresourceful.resourcefullib.common.bytecodecs.ExtraByteCodecs;
 import com.teamresourceful.resourcefullib.common.recipe.CodecRecipe;
 import com.teamresourceful.resourcefullib.common.recipe.CodecRecipeSerializer;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.resources.ResourceKey;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.Container;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import org.jetbrains.annotations.NotNull;
+import tech.alexnijjar.golemoverhaul.common.construction.GolemPattern;
 import tech.alexnijjar.golemoverhaul.common.registry.ModRecipeSerializers;
 import tech.alexnijjar.golemoverhaul.common.registry.ModRecipeTypes;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
-// TODO actually use the recipes in world crafting not just REI
+/**
+ * A golem that is built in the world by placing blocks in a pattern.
+ *
+ * @param pattern  The rows of the pattern, from top to bottom.
+ * @param key      The block for each symbol in the pattern. Air is matched by any air block.
+ * @param tags     Symbols that match any block in a tag instead of only the block in the key.
+ * @param triggers Symbols whose blocks spawn the golem when placed. Every non-air symbol if empty.
+ * @param entity   The golem that is spawned.
+ * @param item     The item shown as the result of the recipe.
+ */
 public record GolemConstructionRecipe(
     List<String> pattern,
     Map<String, ResourceKey<Block>> key,
+    Map<String, TagKey<Block>> tags,
+    List<String> triggers,
     ResourceKey<EntityType<?>> entity,
     ResourceKey<Item> item
 ) implements CodecRecipe<Container> {
 
+    private static final ResourceKey<Block> AIR = ResourceKey.create(Registries.BLOCK, BuiltInRegistries.BLOCK.getKey(Blocks.AIR));
+
     public static final MapCodec<GolemConstructionRecipe> CODEC = RecordCodecBuilder.mapCodec(
         instance -> instance.group(
             Codec.STRING.listOf().fieldOf("pattern").forGetter(GolemConstructionRecipe::pattern),
             Codec.unboundedMap(Codec.STRING, ResourceKey.codec(Registries.BLOCK)).fieldOf("key").forGetter(GolemConstructionRecipe::key),
+            Codec.unboundedMap(Codec.STRING, TagKey.codec(Registries.BLOCK)).optionalFieldOf("tags", Map.of()).forGetter(GolemConstructionRecipe::tags),
+            Codec.STRING.listOf().optionalFieldOf("triggers", List.of()).forGetter(GolemConstructionRecipe::triggers),
             ResourceKey.codec(Registries.ENTITY_TYPE).fieldOf("entity").forGetter(GolemConstructionRecipe::entity),
             ResourceKey.codec(Registries.ITEM).fieldOf("item").forGetter(GolemConstructionRecipe::item)
         ).apply(instance, GolemConstructionRecipe::new));
@@ -42,11 +66,55 @@ public record GolemConstructionRecipe(
     public static final ByteCodec<GolemConstructionRecipe> NETWORK_CODEC = ObjectByteCodec.create(
         ByteCodec.STRING.listOf().fieldOf(GolemConstructionRecipe::pattern),
         new com.teamresourceful.bytecodecs.defaults.MapCodec<>(ByteCodec.STRING, ExtraByteCodecs.resourceKey(Registries.BLOCK)).fieldOf(GolemConstructionRecipe::key),
+        new com.teamresourceful.bytecodecs.defaults.MapCodec<>(ByteCodec.STRING, ExtraByteCodecs.RESOURCE_LOCATION.map(id -> TagKey.create(Registries.BLOCK, id), TagKey::location)).fieldOf(GolemConstructionRecipe::tags),
+        ByteCodec.STRING.listOf().fieldOf(GolemConstructionRecipe::triggers),
         ExtraByteCodecs.resourceKey(Registries.ENTITY_TYPE).fieldOf(GolemConstructionRecipe::entity),
         ExtraByteCodecs.resourceKey(Registries.ITEM).fieldOf(GolemConstructionRecipe::item),
         GolemConstructionRecipe::new
     );
 
+    public GolemConstructionRecipe(List<String> pattern, Map<String, ResourceKey<Block>> key, ResourceKey<EntityType<?>> entity, ResourceKey<Item> item) {
+        this(pattern, key, Map.of(), List.of(), entity, item);
+    }
+
+    /**
+     * Compiles the recipe into a pattern that can be matched in the world.
+     *
+     * @throws IllegalArgumentException If the recipe references unknown blocks or entities, or the pattern is invalid.
+     */
+    public GolemPattern toPattern() {
+        EntityType<?> type = BuiltInRegistries.ENTITY_TYPE.getOptional(entity)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown entity " + entity.location()));
+
+        Map<Character, Predicate<BlockState>> predicates = new HashMap<>();
+        Set<Character> triggerSymbols = new HashSet<>();
+        for (var entry : key.entrySet()) {
+            char symbol = symbol(entry.getKey());
+            TagKey<Block> tag = tags.get(entry.getKey());
+            Predicate<BlockState> predicate;
+            if (tag != null) {
+                predicate = state -> state.is(tag);
+            } else if (entry.getValue().equals(AIR)) {
+                predicate = BlockState::isAir;
+            } else {
+                Block block = BuiltInRegistries.BLOCK.getOptional(entry.getValue())
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown block " + entry.getValue().location()));
+                predicate = state -> state.is(block);
+            }
+            predicates.put(symbol, predicate);
+            if (triggers.isEmpty() ? !entry.getValue().equals(AIR) : triggers.contains(entry.getKey())) {
+                triggerSymbols.add(symbol);
+            }
+        }
+        return new GolemPattern(pattern, predicates, triggerSymbols, () -> type);
+    }
+
+    private static char symbol(String key) {
+        if (key.length() != 1) throw new IllegalArgumentException("Invalid key '" + key + "', keys must be a single character");
+        return key.charAt(0);
+    }
+
+    // Golems are matched against blocks in the world by GolemConstruction, not against containers.
     @Override
     public boolean matches(Container container, Level level) {
         return false;
@@ -0,0 +1,16 @@
+package tech.alexnijjar.golemoverhaul.common.tags;
+
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.level.block.Block;
+import tech.alexnijjar.golemoverhaul.GolemOverhaul;
+
+public class ModBlockTags {
+
+    public static final TagKey<Block> GOLEM_HEADS = tag("golem_heads");
+
+    private static TagKey<Block> tag(String name) {
+        return TagKey.create(Registries.BLOCK, new ResourceLocation(GolemOverhaul.MOD_ID, name));
+    }
+}
@@ -11,6 +11,7 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.CarvedPumpkinBlock;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.pattern.BlockPattern;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 import java.util.function.Predicate;
 
@@ -19,10 +20,11 @@ public class ModUtils {
     public static final Predicate<BlockState> PUMPKINS_PREDICATE = state -> state != null
         && (state.is(Blocks.CARVED_PUMPKIN) || state.is(Blocks.JACK_O_LANTERN));
 
+    /**
+     * Queues particles to be sent at the end of the tick to players close enough to see them.
+     */
     public static <T extends ParticleOptions> void sendParticles(ServerLevel level, T particle, double x, double y, double z, int count, double deltaX, double deltaY, double deltaZ, double speed) {
-        for (ServerPlayer player : level.players()) {
-            level.sendParticles(player, particle, true, x, y, z, count, deltaX, deltaY, deltaZ, speed);
-        }
+        GolemLevelData.of(level).golemoverhaul$getParticles().send(particle, x, y, z, count, deltaX, deltaY, deltaZ, speed);
     }
 
     public static void spawnGolemInWorld(Level level, BlockPattern.BlockPatternMatch pattern, Entity golem, BlockPos pos) {
@@ -0,0 +1,16 @@
+package tech.alexnijjar.golemoverhaul.common.utils;
+
+import com.teamresourceful.resourcefullib.common.exceptions.NotImplementedException;
+import dev.architectury.injectables.annotations.ExpectPlatform;
+import net.minecraft.world.entity.Entity;
+
+public class PlatformUtils {
+
+    /**
+     * @return Whether the loader or other mods have attached data to the entity that only a full save would keep.
+     */
+    @ExpectPlatform
+    public static boolean hasAttachedData(Entity entity) {
+        throw new NotImplementedException();
+    }
+}
@@ -1,6 +1,8 @@
 package tech.alexnijjar.golemoverhaul.mixins.common;
 
+import net.minecraft.core.BlockPos;
 import net.minecraft.world.entity.animal.Bee;
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.gen.Accessor;
 import org.spongepowered.asm.mixin.gen.Invoker;
@@ -14,6 +16,9 @@ public interface BeeAccessor {
     @Accessor
     void setRemainingCooldownBeforeLocatingNewHive(int remainingCooldownBeforeLocatingNewHive);
 
+    @Accessor
+    void setHivePos(@Nullable BlockPos hivePos);
+
     @Invoker
     boolean invokeWantsToEnterHive();
 }
@@ -21,6 +21,7 @@ import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import tech.alexnijjar.golemoverhaul.common.entities.AdditionalBeeData;
+import tech.alexnijjar.golemoverhaul.common.entities.HoneyGolemHandle;
 import tech.alexnijjar.golemoverhaul.common.entities.goals.GoToHoneyGolemHiveGoal;
 import tech.alexnijjar.golemoverhaul.common.entities.goals.HealHoneyGolemGoal;
 import tech.alexnijjar.golemoverhaul.common.entities.goals.LocateHoneyGolemHiveGoal;
@@ -36,7 +37,7 @@ public abstract class BeeMixin extends PathfinderMob implements AdditionalBeeDat
 
     @Unique
     @Nullable
-    private UUID golemoverhaul$owner;
+    private HoneyGolemHandle golemoverhaul$owner;
 
     protected BeeMixin(EntityType<? extends PathfinderMob> entityType, Level level) {
         super(entityType, level);
@@ -53,8 +54,9 @@ public abstract class BeeMixin extends PathfinderMob implements AdditionalBeeDat
 
     @Inject(method = "tick", at = @At("TAIL"))
     private void golemoverhaul$tick(CallbackInfo ci) {
-        if (tickCount % 40 == 0 && golemoverhaul$owner != null && level() instanceof ServerLevel level) {
-            if (level.getEntity(golemoverhaul$owner) instanceof HoneyGolem golem && golem.getTarget() != null) {
+        if (tickCount % 40 == 0 && golemoverhaul$owner != null) {
+            HoneyGolem golem = golemoverhaul$getOwnerGolem();
+            if (golem != null && golem.getTarget() != null) {
                 if (getTarget() == null) {
                     setTarget(golem.getTarget());
                 }
@@ -93,12 +95,35 @@ public abstract class BeeMixin extends PathfinderMob implements AdditionalBeeDat
 
     @Override
     public UUID golemoverhaul$getOwner() {
-        return this.golemoverhaul$owner;
+        return this.golemoverhaul$owner == null ? null : this.golemoverhaul$owner.id();
     }
 
     @Override
     public void golemoverhaul$setOwner(UUID owner) {
-        this.golemoverhaul$owner = owner;
+        if (owner == null) {
+            this.golemoverhaul$owner = null;
+        } else if (this.golemoverhaul$owner == null || !this.golemoverhaul$owner.id().equals(owner)) {
+            this.golemoverhaul$owner = new HoneyGolemHandle(owner);
+        }
+    }
+
+    @Override
+    public void golemoverhaul$setOwnerGolem(HoneyGolem owner) {
+        this.golemoverhaul$owner = new HoneyGolemHandle(owner);
+    }
+
+    @Override
+    @Nullable
+    public HoneyGolem golemoverhaul$getOwnerGolem() {
+        if (this.golemoverhaul$owner != null && this.level() instanceof ServerLevel level) {
+            return this.golemoverhaul$owner.resolve(level);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean golemoverhaul$isOwnerGone() {
+        return this.golemoverhaul$owner != null && this.golemoverhaul$owner.isGone();
     }
 
     @Override
@@ -109,21 +134,22 @@ public abstract class BeeMixin extends PathfinderMob implements AdditionalBeeDat
     @Inject(method = "addAdditionalSaveData", at = @At("TAIL"))
     private void golemoverhaul$addAdditionalSaveData(CompoundTag compound, CallbackInfo ci) {
         if (this.golemoverhaul$owner != null) {
-            compound.putUUID("HoneyGolemOwner", this.golemoverhaul$owner);
+            compound.putUUID("HoneyGolemOwner", this.golemoverhaul$owner.id());
         }
     }
 
     @Inject(method = "readAdditionalSaveData", at = @At("TAIL"))
     private void golemoverhaul$readAdditionalSaveData(CompoundTag compound, CallbackInfo ci) {
         if (compound.contains("HoneyGolemOwner")) {
-            this.golemoverhaul$owner = compound.getUUID("HoneyGolemOwner");
+            this.golemoverhaul$setOwner(compound.getUUID("HoneyGolemOwner"));
         }
     }
 
     @Inject(method = "wantsToEnterHive", at = @At("HEAD"), cancellable = true)
     private void golemoverhaul$wantsToEnterHive(CallbackInfoReturnable<Boolean> cir) {
         if (this.golemoverhaul$owner != null && this.level() instanceof ServerLevel level) {
-            if (level.getEntity(this.golemoverhaul$owner) instanceof HoneyGolem golem) {
+            HoneyGolem golem = this.golemoverhaul$owner.resolve(level);
+            if (golem != null) {
                 if (golem.getHealth() < golem.getMaxHealth()) {
                     cir.setReturnValue(false);
                     return;
@@ -0,0 +1,28 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.world.entity.LivingEntity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.profiling.GolemProfiler;
+
+@Mixin(LivingEntity.class)
+public abstract class LivingEntityMixin {
+
+    @WrapOperation(
+        method = "tick",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;aiStep()V")
+    )
+    private void golemoverhaul$profileAiStep(LivingEntity entity, Operation<Void> original) {
+        if (!(entity instanceof BaseGolem golem) || entity.level().isClientSide() || !GolemProfiler.isActive()) {
+            original.call(entity);
+            return;
+        }
+        long startBytes = GolemProfiler.allocatedBytes();
+        long startNanos = System.nanoTime();
+        original.call(entity);
+        GolemProfiler.record(golem, GolemProfiler.Phase.AI_STEP, startNanos, startBytes);
+    }
+}
@@ -0,0 +1,15 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import net.minecraft.world.level.storage.loot.entries.LootPoolSingletonContainer;
+import net.minecraft.world.level.storage.loot.functions.LootItemFunction;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+
+@Mixin(LootPoolSingletonContainer.class)
+public interface LootPoolSingletonContainerAccessor {
+
+    @Accessor
+    List<LootItemFunction> getFunctions();
+}
@@ -0,0 +1,24 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.storage.loot.LootPool;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.level.storage.loot.functions.LootItemFunction;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.gen.Accessor;
+
+import java.util.List;
+import java.util.Optional;
+
+@Mixin(LootTable.class)
+public interface LootTableAccessor {
+
+    @Accessor
+    Optional<ResourceLocation> getRandomSequence();
+
+    @Accessor
+    List<LootPool> getPools();
+
+    @Accessor
+    List<LootItemFunction> getFunctions();
+}
@@ -0,0 +1,28 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.world.entity.Mob;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.profiling.GolemProfiler;
+
+@Mixin(Mob.class)
+public abstract class MobMixin {
+
+    @WrapOperation(
+        method = "serverAiStep",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Mob;customServerAiStep()V")
+    )
+    private void golemoverhaul$profileCustomServerAiStep(Mob mob, Operation<Void> original) {
+        if (!(mob instanceof BaseGolem golem) || !GolemProfiler.isActive()) {
+            original.call(mob);
+            return;
+        }
+        long startBytes = GolemProfiler.allocatedBytes();
+        long startNanos = System.nanoTime();
+        original.call(mob);
+        GolemProfiler.record(golem, GolemProfiler.Phase.CUSTOM_AI_STEP, startNanos, startBytes);
+    }
+}
@@ -1,5 +1,6 @@
 package tech.alexnijjar.golemoverhaul.mixins.common;
 
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
@@ -14,7 +15,7 @@ import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
-import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
 
 @Mixin(NearestAttackableTargetGoal.class)
 public abstract class NearestAttackableTargetGoalMixin<T extends LivingEntity> extends TargetGoal {
@@ -43,21 +44,14 @@ public abstract class NearestAttackableTargetGoalMixin<T extends LivingEntity> e
         at = @At("TAIL")
     )
     private void golemoverhaul$findTarget(CallbackInfo ci) {
-        if (this.targetType == IronGolem.class && target == null) {
-            this.target = this.mob
-                .level()
-                .getNearestEntity(
-                    this.mob.level().getEntities(this.mob, this.getTargetSearchArea(this.getFollowDistance()),
-                            entity -> entity instanceof BaseGolem golem && golem.canTarget())
-                        .stream()
-                        .map(e -> (LivingEntity) e)
-                        .toList(),
-                    this.targetConditions,
-                    this.mob,
-                    this.mob.getX(),
-                    this.mob.getEyeY(),
-                    this.mob.getZ()
-                );
+        if (this.targetType == IronGolem.class && target == null && this.mob.level() instanceof ServerLevel level) {
+            this.target = GolemLevelData.of(level).golemoverhaul$getTargetableGolems().findNearest(
+                this.getTargetSearchArea(this.getFollowDistance()),
+                this.mob.getX(),
+                this.mob.getEyeY(),
+                this.mob.getZ(),
+                golem -> golem != this.mob && golem.canTarget() && this.targetConditions.test(this.mob, golem)
+            );
         }
     }
 }
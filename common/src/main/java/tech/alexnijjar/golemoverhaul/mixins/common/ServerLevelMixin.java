@@ -0,0 +1,134 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
+import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.base.BaseGolem;
+import tech.alexnijjar.golemoverhaul.common.level.ConduitCoverage;
+import tech.alexnijjar.golemoverhaul.common.level.EntitySectionIndex;
+import tech.alexnijjar.golemoverhaul.common.level.FarmlandProtection;
+import tech.alexnijjar.golemoverhaul.common.level.GolemAiScheduler;
+import tech.alexnijjar.golemoverhaul.common.level.GolemLevelData;
+import tech.alexnijjar.golemoverhaul.common.level.GolemShots;
+import tech.alexnijjar.golemoverhaul.common.level.ParticleDispatcher;
+import tech.alexnijjar.golemoverhaul.common.level.PiglinAnger;
+import tech.alexnijjar.golemoverhaul.common.level.SummonBudget;
+import tech.alexnijjar.golemoverhaul.common.profiling.GolemProfiler;
+
+import java.util.function.BooleanSupplier;
+
+@Mixin(ServerLevel.class)
+public abstract class ServerLevelMixin implements GolemLevelData {
+
+    @Unique
+    private final EntitySectionIndex<BaseGolem> golemoverhaul$targetableGolems = new EntitySectionIndex<>();
+
+    @Unique
+    private final EntitySectionIndex<HoneyGolem> golemoverhaul$honeyGolems = new EntitySectionIndex<>();
+
+    @Unique
+    private final ConduitCoverage golemoverhaul$conduitCoverage = new ConduitCoverage();
+
+    @Unique
+    private final FarmlandProtection golemoverhaul$farmlandProtection = new FarmlandProtection();
+
+    @Unique
+    private final PiglinAnger golemoverhaul$piglinAnger = new PiglinAnger();
+
+    @Unique
+    private final SummonBudget golemoverhaul$summonBudget = new SummonBudget();
+
+    @Unique
+    private final ParticleDispatcher golemoverhaul$particles = new ParticleDispatcher();
+
+    @Unique
+    private final GolemAiScheduler golemoverhaul$aiScheduler = new GolemAiScheduler();
+
+    @Unique
+    private final GolemShots golemoverhaul$shots = new GolemShots();
+
+    @SuppressWarnings("UnreachableCode")
+    @Inject(method = "tick", at = @At("TAIL"))
+    private void golemoverhaul$tick(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        ServerLevel level = (ServerLevel) (Object) this;
+        this.golemoverhaul$shots.tick(level);
+        this.golemoverhaul$particles.flush(level);
+        this.golemoverhaul$aiScheduler.tick(level);
+    }
+
+    @WrapOperation(
+        method = "tickNonPassenger",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;tick()V")
+    )
+    private void golemoverhaul$profileTick(Entity entity, Operation<Void> original) {
+        if (!(entity instanceof BaseGolem golem) || !GolemProfiler.isActive()) {
+            original.call(entity);
+            return;
+        }
+        long startBytes = GolemProfiler.allocatedBytes();
+        long startNanos = System.nanoTime();
+        original.call(entity);
+        GolemProfiler.record(golem, GolemProfiler.Phase.TICK, startNanos, startBytes);
+    }
+
+    // Golems riding a boat, minecart or another mob are ticked through their vehicle instead.
+    @WrapOperation(
+        method = "tickPassenger",
+        at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/Entity;rideTick()V")
+    )
+    private void golemoverhaul$profileRideTick(Entity passenger, Operation<Void> original) {
+        golemoverhaul$profileTick(passenger, original);
+    }
+
+    @Override
+    public EntitySectionIndex<BaseGolem> golemoverhaul$getTargetableGolems() {
+        return this.golemoverhaul$targetableGolems;
+    }
+
+    @Override
+    public EntitySectionIndex<HoneyGolem> golemoverhaul$getHoneyGolems() {
+        return this.golemoverhaul$honeyGolems;
+    }
+
+    @Override
+    public ConduitCoverage golemoverhaul$getConduitCoverage() {
+        return this.golemoverhaul$conduitCoverage;
+    }
+
+    @Override
+    public FarmlandProtection golemoverhaul$getFarmlandProtection() {
+        return this.golemoverhaul$farmlandProtection;
+    }
+
+    @Override
+    public PiglinAnger golemoverhaul$getPiglinAnger() {
+        return this.golemoverhaul$piglinAnger;
+    }
+
+    @Override
+    public SummonBudget golemoverhaul$getSummonBudget() {
+        return this.golemoverhaul$summonBudget;
+    }
+
+    @Override
+    public ParticleDispatcher golemoverhaul$getParticles() {
+        return this.golemoverhaul$particles;
+    }
+
+    @Override
+    public GolemAiScheduler golemoverhaul$getAiScheduler() {
+        return this.golemoverhaul$aiScheduler;
+    }
+
+    @Override
+    public GolemShots golemoverhaul$getShots() {
+        return this.golemoverhaul$shots;
+    }
+}
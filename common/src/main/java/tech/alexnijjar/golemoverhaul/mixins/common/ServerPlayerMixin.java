@@ -0,0 +1,18 @@
+package tech.alexnijjar.golemoverhaul.mixins.common;
+
+import net.minecraft.server.level.ServerPlayer;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
+import tech.alexnijjar.golemoverhaul.common.network.PacketBuckets;
+
+@Mixin(ServerPlayer.class)
+public abstract class ServerPlayerMixin implements PacketBuckets.Holder {
+
+    @Unique
+    private final PacketBuckets golemoverhaul$packetBuckets = new PacketBuckets();
+
+    @Override
+    public PacketBuckets golemoverhaul$getPacketBuckets() {
+        return this.golemoverhaul$packetBuckets;
+    }
+}
@@ -0,0 +1,93 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
+
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The fields only go through the getters and setters, so the golem can be null and the values kept in a holder.
+class GolemFieldsTest {
+
+    @Test
+    void smallRangesAreSavedAsBytes() {
+        Holder holder = new Holder();
+        GolemFields<BaseGolem> fields = integer(holder, Byte.MIN_VALUE, Byte.MAX_VALUE);
+        for (int value : new int[]{Byte.MIN_VALUE, -1, 0, 1, Byte.MAX_VALUE}) {
+            CompoundTag tag = save(fields, holder, value);
+            assertEquals(Tag.TAG_BYTE, tag.getTagType("Value"));
+            assertEquals(value, load(fields, holder, tag));
+        }
+    }
+
+    @Test
+    void largeRangesAreSavedAsInts() {
+        Holder holder = new Holder();
+        GolemFields<BaseGolem> fields = integer(holder, 0, Byte.MAX_VALUE + 1);
+        for (int value : new int[]{0, Byte.MAX_VALUE, Byte.MAX_VALUE + 1}) {
+            CompoundTag tag = save(fields, holder, value);
+            assertEquals(Tag.TAG_INT, tag.getTagType("Value"));
+            assertEquals(value, load(fields, holder, tag));
+        }
+
+        fields = integer(holder, Integer.MIN_VALUE, Integer.MAX_VALUE);
+        for (int value : new int[]{Integer.MIN_VALUE, Integer.MAX_VALUE}) {
+            assertEquals(value, load(fields, holder, save(fields, holder, value)));
+        }
+    }
+
+    @Test
+    void loadedValuesAreClamped() {
+        Holder holder = new Holder();
+        GolemFields<BaseGolem> fields = integer(holder, 5, 100);
+        CompoundTag tag = new CompoundTag();
+        tag.putInt("Value", 1000);
+        assertEquals(100, load(fields, holder, tag));
+        tag.putInt("Value", -1000);
+        assertEquals(5, load(fields, holder, tag));
+        tag.putByte("Value", (byte) 101);
+        assertEquals(100, load(fields, holder, tag));
+    }
+
+    @Test
+    void missingValuesLoadAsZeroClamped() {
+        Holder holder = new Holder();
+        assertEquals(0, load(integer(holder, -10, 10), holder, new CompoundTag()));
+        assertEquals(5, load(integer(holder, 5, 100), holder, new CompoundTag()));
+    }
+
+    @Test
+    void encodingChangesStillLoad() {
+        Holder holder = new Holder();
+        CompoundTag tag = new CompoundTag();
+        // An int saved before the range shrank to fit in a byte, and a byte saved before it grew.
+        tag.putInt("Value", 42);
+        assertEquals(42, load(integer(holder, 0, 100), holder, tag));
+        tag.putByte("Value", (byte) 42);
+        assertEquals(42, load(integer(holder, 0, 1000), holder, tag));
+    }
+
+    private static GolemFields<BaseGolem> integer(Holder holder, int min, int max) {
+        return GolemFields.<BaseGolem>builder()
+            .integer("Value", min, max, golem -> holder.value, (golem, value) -> holder.value = value)
+            .build();
+    }
+
+    private static CompoundTag save(GolemFields<BaseGolem> fields, Holder holder, int value) {
+        holder.value = value;
+        CompoundTag tag = new CompoundTag();
+        fields.save(null, tag);
+        return tag;
+    }
+
+    private static int load(GolemFields<BaseGolem> fields, Holder holder, CompoundTag tag) {
+        holder.value = Integer.MIN_VALUE + 1;
+        fields.load(null, tag);
+        return holder.value;
+    }
+
+    private static final class Holder {
+
+        private int value;
+    }
+}
@@ -0,0 +1,84 @@
+package tech.alexnijjar.golemoverhaul.common.entities.golems.base;
+
+import net.minecraft.nbt.CompoundTag;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GolemNbtTest {
+
+    private static final Variant[] VARIANTS = Variant.values();
+
+    @Test
+    void currentVersionRoundTrips() {
+        for (Variant variant : VARIANTS) {
+            CompoundTag tag = new CompoundTag();
+            GolemNbt.writeVersion(tag);
+            GolemNbt.writeEnum(tag, "Variant", variant);
+            assertEquals(variant, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.RED));
+        }
+    }
+
+    @Test
+    void legacyNamesAreRead() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("Variant", "green");
+        assertEquals(0, GolemNbt.getVersion(tag));
+        assertEquals(Variant.GREEN, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.RED));
+
+        tag.putString("Variant", "BLUE");
+        assertEquals(Variant.BLUE, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.RED));
+    }
+
+    @Test
+    void versionZeroReadsNames() {
+        CompoundTag tag = new CompoundTag();
+        tag.putByte(GolemNbt.VERSION_KEY, (byte) 0);
+        tag.putString("Variant", "blue");
+        assertEquals(Variant.BLUE, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.RED));
+    }
+
+    @Test
+    void versionZeroIgnoresOrdinals() {
+        CompoundTag tag = new CompoundTag();
+        tag.putByte("Variant", (byte) Variant.BLUE.ordinal());
+        assertEquals(Variant.RED, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.RED));
+    }
+
+    @Test
+    void unknownLegacyNameFallsBack() {
+        CompoundTag tag = new CompoundTag();
+        tag.putString("Variant", "purple");
+        assertEquals(Variant.GREEN, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.GREEN));
+    }
+
+    @Test
+    void outOfRangeOrdinalsFallBack() {
+        CompoundTag tag = new CompoundTag();
+        GolemNbt.writeVersion(tag);
+        tag.putByte("Variant", (byte) VARIANTS.length);
+        assertEquals(Variant.GREEN, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.GREEN));
+
+        tag.putByte("Variant", (byte) -1);
+        assertEquals(Variant.GREEN, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.GREEN));
+    }
+
+    @Test
+    void corruptValuesFallBack() {
+        CompoundTag tag = new CompoundTag();
+        GolemNbt.writeVersion(tag);
+        assertEquals(Variant.BLUE, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.BLUE));
+
+        tag.putInt("Variant", 1);
+        assertEquals(Variant.BLUE, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.BLUE));
+
+        tag.put("Variant", new CompoundTag());
+        assertEquals(Variant.BLUE, GolemNbt.readEnum(tag, "Variant", VARIANTS, Variant.BLUE));
+    }
+
+    private enum Variant {
+        RED,
+        GREEN,
+        BLUE,
+    }
+}
@@ -0,0 +1,63 @@
+package tech.alexnijjar.golemoverhaul.common.loot;
+
+import net.minecraft.util.RandomSource;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AliasTableTest {
+
+    private static final int SAMPLES = 100_000;
+
+    @Test
+    void singleEntryIsAlwaysPicked() {
+        AliasTable table = AliasTable.of(new int[]{5});
+        assertEquals(1, table.size());
+        int[] counts = sample(table);
+        assertEquals(SAMPLES, counts[0]);
+    }
+
+    @Test
+    void zeroWeightsAreNeverPicked() {
+        AliasTable table = AliasTable.of(new int[]{0, 3, 0, 1});
+        int[] counts = sample(table);
+        assertEquals(0, counts[0]);
+        assertEquals(0, counts[2]);
+        assertEquals(0.75, (double) counts[1] / SAMPLES, 0.01);
+        assertEquals(0.25, (double) counts[3] / SAMPLES, 0.01);
+    }
+
+    @Test
+    void onlyPositiveWeightIsAlwaysPicked() {
+        AliasTable table = AliasTable.of(new int[]{0, 0, 7, 0});
+        int[] counts = sample(table);
+        assertEquals(SAMPLES, counts[2]);
+    }
+
+    @Test
+    void weightsArePickedProportionally() {
+        int[] weights = {40, 40, 20, 10, 1};
+        AliasTable table = AliasTable.of(weights);
+        int[] counts = sample(table);
+        for (int i = 0; i < weights.length; i++) {
+            assertEquals(weights[i] / 111.0, (double) counts[i] / SAMPLES, 0.01);
+        }
+    }
+
+    @Test
+    void invalidWeightsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new int[]{0, 0}));
+        assertThrows(IllegalArgumentException.class, () -> AliasTable.of(new int[]{2, -1}));
+    }
+
+    private static int[] sample(AliasTable table) {
+        RandomSource random = RandomSource.create(0);
+        int[] counts = new int[table.size()];
+        for (int i = 0; i < SAMPLES; i++) {
+            counts[table.sample(random)]++;
+        }
+        return counts;
+    }
+}
@@ -2,6 +2,31 @@ architectury {
     fabric()
 }
 
+// The stress tests live in their own source set and mod, so they're only on the classpath of the stressTest run and
+// never end up in the released jar.
+val gametest: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().compileClasspath + sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().runtimeClasspath + sourceSets.main.get().output
+}
+
+loom {
+    runs {
+        // Runs the golem stress tests and the barter benchmark on a headless server, see GolemStressTest and
+        // BarterTableBenchmark for the options.
+        create("stressTest") {
+            server()
+            source(gametest)
+            name("Golem Stress Test")
+            runDir("run/stress")
+            vmArg("-Dfabric-api.gametest")
+            vmArg("-Dgolemoverhaul.stress.report=golemoverhaul-stress-report.json")
+            listOf("count", "ticks", "barters").forEach { option ->
+                providers.gradleProperty("stress.$option").orNull?.let { vmArg("-Dgolemoverhaul.stress.$option=$it") }
+            }
+        }
+    }
+}
+
 val common: Configuration by configurations.creating {
     configurations.compileClasspath.get().extendsFrom(this)
     configurations.runtimeClasspath.get().extendsFrom(this)
@@ -0,0 +1,117 @@
+package tech.alexnijjar.golemoverhaul.fabric.gametest;
+
+import com.mojang.logging.LogUtils;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.storage.loot.LootParams;
+import net.minecraft.world.level.storage.loot.LootTable;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParamSets;
+import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
+import org.slf4j.Logger;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.BarrelGolem;
+import tech.alexnijjar.golemoverhaul.common.loot.BarterTable;
+import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Compares rolling the shipped barrel golem bartering table through {@link BarterTable} with rolling the loot table
+ * directly. It runs on the game test server rather than with JMH because the barter table reads the loot table through
+ * mixin accessors, and the tag entries only expand once the server has loaded the item tags.
+ * <p>
+ * Both are warmed up and then measured in alternating rounds, and the mean time per roll of each is logged. The number
+ * of rolls per round can be changed with the {@code golemoverhaul.stress.barters} system property.
+ */
+public final class BarterTableBenchmark {
+
+    public static final int ROLLS = Integer.getInteger("golemoverhaul.stress.barters", 100_000);
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /**
+     * @param structure An empty structure to run the benchmark in.
+     */
+    public static TestFunction create(String structure) {
+        return new TestFunction(
+            "golemoverhaul_barter_benchmark",
+            "golemoverhaul_barter_benchmark",
+            structure,
+            20,
+            0,
+            true,
+            BarterTableBenchmark::run);
+    }
+
+    private static void run(GameTestHelper helper) {
+        ServerLevel level = helper.getLevel();
+        BarrelGolem golem = ModEntityTypes.BARREL_GOLEM.get().create(level);
+        if (golem == null) {
+            helper.fail("Failed to create a barrel golem");
+            return;
+        }
+        LootTable lootTable = level.getServer().reloadableRegistries().getLootTable(BarrelGolem.BARTERING_LOOT);
+        if (lootTable == LootTable.EMPTY) {
+            helper.fail("Missing loot table " + BarrelGolem.BARTERING_LOOT.location());
+            return;
+        }
+        BarterTable barterTable = new BarterTable(BarrelGolem.BARTERING_LOOT);
+
+        Roll barter = () -> barterTable.getRandomItems(level, golem);
+        // The params are built for every roll, like BarrelGolem did before barters were compiled.
+        Roll loot = () -> lootTable.getRandomItems(new LootParams.Builder(level)
+            .withParameter(LootContextParams.THIS_ENTITY, golem)
+            .create(LootContextParamSets.PIGLIN_BARTER));
+
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += measure(barter)[1] + measure(loot)[1];
+        }
+        long barterNanos = 0;
+        long lootNanos = 0;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long[] result = measure(barter);
+            barterNanos += result[0];
+            sink += result[1];
+            result = measure(loot);
+            lootNanos += result[0];
+            sink += result[1];
+        }
+
+        if (sink == 0) {
+            helper.fail("Bartering never produced any items");
+            return;
+        }
+        double rolls = (double) ROLLS * MEASURED_ROUNDS;
+        LOGGER.info("Barter benchmark over {} rolls: barter table {} ns/roll, loot table {} ns/roll",
+            (long) rolls,
+            String.format(Locale.ROOT, "%.1f", barterNanos / rolls),
+            String.format(Locale.ROOT, "%.1f", lootNanos / rolls));
+        helper.succeed();
+    }
+
+    /**
+     * @return The time the rolls took in nanoseconds and the total number of items they produced, which is used so
+     * the rolls can't be optimized away.
+     */
+    private static long[] measure(Roll roll) {
+        long items = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < ROLLS; i++) {
+            for (ItemStack stack : roll.roll()) {
+                items += stack.getCount();
+            }
+        }
+        return new long[]{System.nanoTime() - start, items};
+    }
+
+    @FunctionalInterface
+    private interface Roll {
+
+        List<ItemStack> roll();
+    }
+}
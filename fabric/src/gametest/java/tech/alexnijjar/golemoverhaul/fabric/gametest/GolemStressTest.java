@@ -0,0 +1,159 @@
+package tech.alexnijjar.golemoverhaul.fabric.gametest;
+
+import com.teamresourceful.resourcefullib.common.registry.RegistryEntry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.gametest.framework.TestFunction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.entity.MobSpawnType;
+import net.minecraft.world.entity.animal.Bee;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.BarrelGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.HoneyGolem;
+import tech.alexnijjar.golemoverhaul.common.entities.golems.NetheriteGolem;
+import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Load tests that spawn a crowd of each golem type and record how long the server takes to tick and how much it
+ * allocates. Every golem gets its own batch so they're measured one at a time. Results are written to
+ * {@link StressReport}.
+ * <p>
+ * The golems are spawned in a walled barrier arena built high above the empty test structure, so nothing but the
+ * golems themselves is ticked or pathed around, whatever the test world generates below.
+ * <p>
+ * The golem count and measured ticks can be changed with the {@code golemoverhaul.stress.count} and
+ * {@code golemoverhaul.stress.ticks} system properties.
+ */
+public final class GolemStressTest {
+
+    public static final int COUNT = Integer.getInteger("golemoverhaul.stress.count", 256);
+    public static final int MEASURED_TICKS = Integer.getInteger("golemoverhaul.stress.ticks", 1200);
+
+    // Lets the golems land and pick their first goals before measuring.
+    private static final int SETTLE_TICKS = 100;
+    private static final int SPACING = 2;
+    private static final int BARREL_TOGGLE_TICKS = 100;
+    private static final int ARENA_HEIGHT = 64;
+
+    // Extra per-tick work for golems whose expensive behaviour doesn't happen on its own in an empty world.
+    private static final Map<ResourceLocation, BiConsumer<Entity, Integer>> SCENARIOS = Map.of(
+        ModEntityTypes.NETHERITE_GOLEM.getId(), (entity, tick) -> {
+            if (entity instanceof NetheriteGolem golem && golem.getSummonCooldown() == 0) {
+                golem.setCharged(true);
+                golem.summon();
+            }
+        },
+        ModEntityTypes.BARREL_GOLEM.getId(), (entity, tick) -> {
+            if (entity instanceof BarrelGolem golem && (tick + golem.getId()) % BARREL_TOGGLE_TICKS == 0) {
+                golem.setOpen(!golem.isOpen(), true);
+            }
+        });
+
+    /**
+     * Creates a test for every golem, so new golems are included automatically.
+     *
+     * @param structure An empty structure to run the tests in.
+     */
+    public static Collection<TestFunction> create(String structure) {
+        List<TestFunction> tests = new ArrayList<>();
+        for (RegistryEntry<EntityType<?>> entry : ModEntityTypes.GOLEMS.getEntries()) {
+            String name = entry.getId().getPath();
+            tests.add(new TestFunction(
+                "golemoverhaul_stress_" + name,
+                "golemoverhaul_stress_" + name,
+                structure,
+                SETTLE_TICKS + MEASURED_TICKS + 20,
+                0,
+                true,
+                helper -> run(helper, entry.getId(), entry.get())));
+        }
+        return tests;
+    }
+
+    private static void run(GameTestHelper helper, ResourceLocation id, EntityType<?> type) {
+        ServerLevel level = helper.getLevel();
+        BlockPos origin = helper.absolutePos(BlockPos.ZERO).above(ARENA_HEIGHT);
+        int side = (int) Math.ceil(Math.sqrt(COUNT));
+        forceChunks(level, origin, side * SPACING, true);
+        buildArena(level, origin, side * SPACING, Blocks.BARRIER.defaultBlockState());
+
+        List<Entity> golems = new ArrayList<>(COUNT);
+        for (int i = 0; i < COUNT; i++) {
+            BlockPos pos = origin.offset((i % side) * SPACING, 0, (i / side) * SPACING);
+            Entity golem = type.spawn(level, pos, MobSpawnType.COMMAND);
+            if (golem == null) continue;
+            if (golem instanceof HoneyGolem honeyGolem) fillBees(level, honeyGolem);
+            golems.add(golem);
+        }
+
+        BiConsumer<Entity, Integer> scenario = SCENARIOS.get(id);
+        TickRecorder recorder = new TickRecorder(level.getServer());
+        int[] tick = {0};
+        helper.onEachTick(() -> {
+            if (scenario != null) {
+                for (Entity golem : golems) {
+                    if (golem.isAlive()) scenario.accept(golem, tick[0]);
+                }
+            }
+            recorder.tick();
+            tick[0]++;
+        });
+        helper.runAtTickTime(SETTLE_TICKS, recorder::start);
+        helper.runAtTickTime(SETTLE_TICKS + MEASURED_TICKS, () -> {
+            StressReport.add(recorder.finish(id, golems.size()));
+            // Golems that wandered outside the structure aren't cleared with it.
+            golems.forEach(Entity::discard);
+            buildArena(level, origin, side * SPACING, Blocks.AIR.defaultBlockState());
+            forceChunks(level, origin, side * SPACING, false);
+            helper.succeed();
+        });
+    }
+
+    private static void fillBees(ServerLevel level, HoneyGolem golem) {
+        while (golem.canPutBee()) {
+            Bee bee = EntityType.BEE.create(level);
+            if (bee == null) return;
+            bee.moveTo(golem.getX(), golem.getY(), golem.getZ());
+            golem.putBee(bee);
+        }
+    }
+
+    /**
+     * Places a floor below the origin and a wall two blocks high around it, or clears them again when given air.
+     */
+    private static void buildArena(ServerLevel level, BlockPos origin, int size, BlockState state) {
+        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
+        for (int x = -1; x <= size; x++) {
+            for (int z = -1; z <= size; z++) {
+                boolean edge = x == -1 || z == -1 || x == size || z == size;
+                for (int y = -1; y <= (edge ? 1 : -1); y++) {
+                    level.setBlock(pos.setWithOffset(origin, x, y, z), state, Block.UPDATE_CLIENTS);
+                }
+            }
+        }
+    }
+
+    private static void forceChunks(ServerLevel level, BlockPos origin, int size, boolean forced) {
+        int minX = SectionPos.blockToSectionCoord(origin.getX() - 16);
+        int minZ = SectionPos.blockToSectionCoord(origin.getZ() - 16);
+        int maxX = SectionPos.blockToSectionCoord(origin.getX() + size + 16);
+        int maxZ = SectionPos.blockToSectionCoord(origin.getZ() + size + 16);
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                level.setChunkForced(x, z, forced);
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package tech.alexnijjar.golemoverhaul.fabric.gametest;
+
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.gametest.framework.GameTestGenerator;
+import net.minecraft.gametest.framework.TestFunction;
+
+import java.util.Collection;
+import java.util.List;
+
+public class GolemStressTestsFabric {
+
+    @GameTestGenerator
+    public Collection<TestFunction> stressTests() {
+        return GolemStressTest.create(FabricGameTest.EMPTY_STRUCTURE);
+    }
+
+    @GameTestGenerator
+    public Collection<TestFunction> barterBenchmark() {
+        return List.of(BarterTableBenchmark.create(FabricGameTest.EMPTY_STRUCTURE));
+    }
+}
@@ -0,0 +1,78 @@
+package tech.alexnijjar.golemoverhaul.fabric.gametest;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.mojang.logging.LogUtils;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the results of the golem stress tests and writes them as JSON to the file in the
+ * {@code golemoverhaul.stress.report} system property, relative to the server directory. The file is rewritten after
+ * every test so a run that is cut short still leaves the finished results behind.
+ */
+public final class StressReport {
+
+    private static final Logger LOGGER = LogUtils.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final Path PATH = Path.of(System.getProperty("golemoverhaul.stress.report", "golemoverhaul-stress-report.json"));
+
+    private static final List<Result> RESULTS = new ArrayList<>();
+
+    /**
+     * @param golem                       The golem type.
+     * @param count                       The number of golems spawned.
+     * @param ticks                       The number of measured ticks.
+     * @param meanMspt                    The mean milliseconds per tick.
+     * @param p50Mspt                     The median milliseconds per tick.
+     * @param p90Mspt                     The 90th percentile milliseconds per tick.
+     * @param p99Mspt                     The 99th percentile milliseconds per tick.
+     * @param maxMspt                     The longest tick in milliseconds.
+     * @param allocatedBytesPerTick       The bytes allocated by the server thread per tick, or -1 if unsupported.
+     * @param allocatedMegabytesPerSecond The megabytes allocated by the server thread per second, or -1 if unsupported.
+     */
+    public record Result(
+        String golem,
+        int count,
+        int ticks,
+        double meanMspt,
+        double p50Mspt,
+        double p90Mspt,
+        double p99Mspt,
+        double maxMspt,
+        long allocatedBytesPerTick,
+        double allocatedMegabytesPerSecond
+    ) {}
+
+    public static synchronized void add(Result result) {
+        RESULTS.add(result);
+        LOGGER.info("Golem stress test {}: {} golems, mean {} ms, p99 {} ms, {} bytes/tick",
+            result.golem(), result.count(), String.format("%.2f", result.meanMspt()), String.format("%.2f", result.p99Mspt()), result.allocatedBytesPerTick());
+        write();
+    }
+
+    private static void write() {
+        JsonObject root = new JsonObject();
+        root.addProperty("count", GolemStressTest.COUNT);
+        root.addProperty("measuredTicks", GolemStressTest.MEASURED_TICKS);
+        root.addProperty("javaVersion", System.getProperty("java.version"));
+        root.addProperty("availableProcessors", Runtime.getRuntime().availableProcessors());
+        JsonArray results = new JsonArray();
+        for (Result result : RESULTS) {
+            results.add(GSON.toJsonTree(result));
+        }
+        root.add("results", results);
+        try {
+            Files.writeString(PATH, GSON.toJson(root));
+        } catch (IOException e) {
+            LOGGER.error("Failed to write golem stress report to {}", PATH.toAbsolutePath(), e);
+        }
+    }
+}
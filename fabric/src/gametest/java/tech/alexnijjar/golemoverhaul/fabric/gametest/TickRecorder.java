@@ -0,0 +1,80 @@
+package tech.alexnijjar.golemoverhaul.fabric.gametest;
+
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+/**
+ * Records the duration of every server tick and the bytes allocated by the server thread between ticks. Must be
+ * ticked from the server thread.
+ */
+public class TickRecorder {
+
+    private final MinecraftServer server;
+    private final LongArrayList tickNanos = new LongArrayList();
+    private boolean recording;
+    private long startNanos;
+    private long startBytes;
+
+    public TickRecorder(MinecraftServer server) {
+        this.server = server;
+    }
+
+    public void start() {
+        this.recording = true;
+        this.startNanos = System.nanoTime();
+        this.startBytes = allocatedBytes();
+    }
+
+    public void tick() {
+        if (!this.recording) return;
+        // Called during a tick, so the last finished tick is the previous one.
+        long[] times = this.server.getTickTimesNanos();
+        this.tickNanos.add(times[Math.floorMod(this.server.getTickCount() - 1, times.length)]);
+    }
+
+    public StressReport.Result finish(ResourceLocation golem, int count) {
+        this.recording = false;
+        long elapsedNanos = System.nanoTime() - this.startNanos;
+        long bytes = this.startBytes < 0 ? -1 : allocatedBytes() - this.startBytes;
+        int ticks = this.tickNanos.size();
+
+        long[] sorted = this.tickNanos.toLongArray();
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long nanos : sorted) {
+            total += nanos;
+        }
+
+        return new StressReport.Result(
+            golem.toString(),
+            count,
+            ticks,
+            ticks == 0 ? 0 : total / (double) ticks / 1_000_000,
+            percentile(sorted, 0.5),
+            percentile(sorted, 0.9),
+            percentile(sorted, 0.99),
+            ticks == 0 ? 0 : sorted[ticks - 1] / 1_000_000.0,
+            bytes < 0 || ticks == 0 ? -1 : bytes / ticks,
+            bytes < 0 || elapsedNanos == 0 ? -1 : bytes / 1_048_576.0 / (elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) return 0;
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+
+    // -1 if the JVM can't measure allocations per thread.
+    private static long allocatedBytes() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean sunBean && sunBean.isThreadAllocatedMemorySupported()) {
+            return sunBean.getThreadAllocatedBytes(Thread.currentThread().threadId());
+        }
+        return -1;
+    }
+}
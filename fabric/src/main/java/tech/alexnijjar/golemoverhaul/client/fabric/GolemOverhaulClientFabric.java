@@ -4,10 +4,12 @@ import net.fabricmc.fabric.api.blockrenderlayer.v1.BlockRenderLayerMap;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.particle.v1.ParticleFactoryRegistry;
+import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
 import net.minecraft.client.renderer.RenderType;
 import net.minecraft.core.particles.ParticleType;
 import net.minecraft.core.particles.SimpleParticleType;
 import tech.alexnijjar.golemoverhaul.client.GolemOverhaulClient;
+import tech.alexnijjar.golemoverhaul.client.shots.ClientGolemShots;
 import tech.alexnijjar.golemoverhaul.client.utils.ClientPlatformUtils;
 import tech.alexnijjar.golemoverhaul.common.registry.ModBlocks;
 
@@ -19,6 +21,7 @@ public class GolemOverhaulClientFabric {
         KeyBindingHelper.registerKeyBinding(GolemOverhaulClient.KEY_NETHERITE_GOLEM_SUMMON);
         BlockRenderLayerMap.INSTANCE.putBlock(ModBlocks.CANDLE_GOLEM_BLOCK.get(), RenderType.cutout());
         ClientTickEvents.START_CLIENT_TICK.register(client -> GolemOverhaulClient.clientTick());
+        WorldRenderEvents.AFTER_ENTITIES.register(context -> ClientGolemShots.render(context.matrixStack(), context.camera(), context.tickDelta()));
     }
 
     private static void registerParticles(ParticleType<SimpleParticleType> particle, ClientPlatformUtils.SpriteParticleRegistration<SimpleParticleType> provider) {
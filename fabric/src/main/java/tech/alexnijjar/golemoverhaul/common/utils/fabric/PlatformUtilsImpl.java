@@ -0,0 +1,11 @@
+package tech.alexnijjar.golemoverhaul.common.utils.fabric;
+
+import net.minecraft.world.entity.Entity;
+
+public class PlatformUtilsImpl {
+
+    // Fabric attachments can only be looked up by type, so data from other mods can't be detected.
+    public static boolean hasAttachedData(Entity entity) {
+        return false;
+    }
+}
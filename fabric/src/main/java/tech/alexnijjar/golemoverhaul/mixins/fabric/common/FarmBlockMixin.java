@@ -5,7 +5,6 @@ import net.minecraft.world.entity.Entity;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.FarmBlock;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.phys.AABB;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
@@ -17,11 +16,8 @@ public abstract class FarmBlockMixin {
 
     @Inject(method = "fallOn", at = @At("HEAD"), cancellable = true)
     private void cadmus$fallOn(Level level, BlockState state, BlockPos pos, Entity entity, float fallDistance, CallbackInfo ci) {
-        if (!level.isClientSide()) {
-            AABB bounds = state.getCollisionShape(level, pos).bounds().move(pos).inflate(10);
-            if (!level.getEntitiesOfClass(HayGolem.class, bounds).isEmpty()) {
-                ci.cancel();
-            }
+        if (HayGolem.isFarmlandProtected(level, pos)) {
+            ci.cancel();
         }
     }
 }
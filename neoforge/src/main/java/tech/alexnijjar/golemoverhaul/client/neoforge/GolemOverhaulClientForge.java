@@ -7,8 +7,10 @@ import net.neoforged.fml.event.lifecycle.FMLClientSetupEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 import net.neoforged.neoforge.client.event.RegisterKeyMappingsEvent;
 import net.neoforged.neoforge.client.event.RegisterParticleProvidersEvent;
+import net.neoforged.neoforge.client.event.RenderLevelStageEvent;
 import net.neoforged.neoforge.common.NeoForge;
 import tech.alexnijjar.golemoverhaul.client.GolemOverhaulClient;
+import tech.alexnijjar.golemoverhaul.client.shots.ClientGolemShots;
 
 @EventBusSubscriber(value = Dist.CLIENT, bus = EventBusSubscriber.Bus.MOD)
 public class GolemOverhaulClientForge {
@@ -20,6 +22,7 @@ public class GolemOverhaulClientForge {
     public static void onClientSetup(FMLClientSetupEvent event) {
         event.enqueueWork(GolemOverhaulClient::init);
         NeoForge.EVENT_BUS.addListener(GolemOverhaulClientForge::onClientTick);
+        NeoForge.EVENT_BUS.addListener(GolemOverhaulClientForge::onRenderLevelStage);
     }
 
     @SubscribeEvent
@@ -35,4 +38,10 @@ public class GolemOverhaulClientForge {
     public static void onClientTick(ClientTickEvent.Pre event) {
         GolemOverhaulClient.clientTick();
     }
+
+    public static void onRenderLevelStage(RenderLevelStageEvent event) {
+        if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_ENTITIES) {
+            ClientGolemShots.render(event.getPoseStack(), event.getCamera(), event.getPartialTick());
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package tech.alexnijjar.golemoverhaul.common.utils.neoforge;
+
+import net.minecraft.world.entity.Entity;
+
+public class PlatformUtilsImpl {
+
+    public static boolean hasAttachedData(Entity entity) {
+        return !entity.getPersistentData().isEmpty();
+    }
+}
@@ -8,19 +8,27 @@ import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.data.recipes.RecipeOutput;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.TagKey;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.item.Item;
 import net.minecraft.world.level.block.Block;
 import org.jetbrains.annotations.NotNull;
 import tech.alexnijjar.golemoverhaul.common.recipes.GolemConstructionRecipe;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
 public class GolemConstructionRecipeBuilder extends CodecRecipeBuilder {
 
-    private final GolemConstructionRecipe recipe;
+    private final List<String> pattern;
+    private final Map<String, ResourceKey<Block>> key;
+    private final Map<String, TagKey<Block>> tags = new LinkedHashMap<>();
+    private final List<String> triggers = new ArrayList<>();
+    private final ResourceKey<EntityType<?>> entity;
+    private final ResourceKey<Item> result;
 
     public GolemConstructionRecipeBuilder(
         List<String> pattern,
@@ -28,16 +36,30 @@ public class GolemConstructionRecipeBuilder extends CodecRecipeBuilder {
         ResourceKey<EntityType<?>> entity,
         ResourceKey<Item> result
     ) {
-        recipe = new GolemConstructionRecipe(pattern, key, entity, result);
+        this.pattern = pattern;
+        this.key = key;
+        this.entity = entity;
+        this.result = result;
+    }
+
+    public GolemConstructionRecipeBuilder tag(String symbol, TagKey<Block> tag) {
+        tags.put(symbol, tag);
+        return this;
+    }
+
+    public GolemConstructionRecipeBuilder triggers(String... symbols) {
+        triggers.addAll(List.of(symbols));
+        return this;
     }
 
     @Override
     public @NotNull Item getResult() {
-        return Objects.requireNonNull(BuiltInRegistries.ITEM.get(recipe.item()));
+        return Objects.requireNonNull(BuiltInRegistries.ITEM.get(result));
     }
 
     @Override
     public void save(RecipeOutput recipeOutput, ResourceLocation id) {
+        var recipe = new GolemConstructionRecipe(pattern, key, Map.copyOf(tags), List.copyOf(triggers), entity, result);
         var builder = recipeOutput.advancement()
             .addCriterion("has_the_recipe", RecipeUnlockedTrigger.unlocked(id))
             .rewards(AdvancementRewards.Builder.recipe(id))
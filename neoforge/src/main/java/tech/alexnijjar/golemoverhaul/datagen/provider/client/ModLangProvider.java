@@ -45,6 +45,34 @@ public class ModLangProvider extends LanguageProvider {
         add(ConstantComponents.NETHERITE_GOLEM_SUMMON_KEY.getString(), "Summon Netherite Golem");
         add(ConstantComponents.GOLEM_OVERHAUL_CATEGORY.getString(), "Golem Overhaul");
         add(ConstantComponents.GOLEM_CONSTUCTION_CATEGORY.getString(), "Golem Construction");
+        add(ConstantComponents.SUMMON_LIMIT_REACHED.getString(), "Too many coal golems have been summoned here");
+
+        add("config.golemoverhaul.maxSummonsPerChunk", "Max Summons Per Chunk");
+        add("config.golemoverhaul.maxSummonsPerPlayer", "Max Summons Per Player");
+        add("config.golemoverhaul.maxSummonsPerLevel", "Max Summons Per Dimension");
+        add("config.golemoverhaul.summonTickTimeBudget", "Summon Tick Time Budget");
+
+        add(ConstantComponents.PROFILER_STARTED.getString(), "Golem profiler started");
+        add(ConstantComponents.PROFILER_STOPPED.getString(), "Golem profiler stopped");
+        add(ConstantComponents.PROFILER_RESET.getString(), "Golem profiler reset");
+        add(ConstantComponents.PROFILER_NOT_RUNNING.getString(), "The golem profiler isn't running, start it with /golemoverhaul profile start");
+        add(ConstantComponents.PROFILER_NO_DATA.getString(), "No golems have been profiled yet");
+        add(ConstantComponents.PROFILER_TOP_CHUNKS.getString(), "Top chunks:");
+        add("command.golemoverhaul.profile.chunk", "  %s [%s, %s]: %s ms, mostly %s");
+        add("command.golemoverhaul.profile.top_types", "Top golem types by %s time:");
+        add("command.golemoverhaul.profile.type", "  %s: %s ms over %s ticks, mean %s µs, p99 %s µs, max %s µs, %s B/tick");
+
+        add(ConstantComponents.SUMMONS_RESET.getString(), "Summon cap hits reset");
+        add("command.golemoverhaul.summons.caps", "Caps: %s per chunk, %s per player, %s per dimension, %s ms tick time");
+        add("command.golemoverhaul.summons.level", "  %s: %s summoned by %s players, busiest chunk %s, cap hits: %s");
+        add("command.golemoverhaul.summons.limit.chunk", "chunk %s");
+        add("command.golemoverhaul.summons.limit.player", "player %s");
+        add("command.golemoverhaul.summons.limit.level", "dimension %s");
+        add("command.golemoverhaul.summons.limit.tick_time", "tick time %s");
+
+        add(ConstantComponents.PACKETS_RESET.getString(), "Dropped packet counters reset");
+        add(ConstantComponents.PACKETS_DROPPED.getString(), "Dropped packets:");
+        add("command.golemoverhaul.packets.limit", "  %s: %s");
 
         add("subtitles.golemoverhaul.entity.coal_golem.ambient", "Coal Golem burns");
         add("subtitles.golemoverhaul.entity.coal_golem.hurt", "Coal Golem hurts");
@@ -1,13 +1,17 @@
 package tech.alexnijjar.golemoverhaul.datagen.provider.server;
 
 import net.minecraft.core.HolderLookup;
+import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.data.PackOutput;
 import net.minecraft.data.tags.TagsProvider;
+import net.minecraft.tags.TagEntry;
 import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
 import net.neoforged.neoforge.common.data.ExistingFileHelper;
 import org.jetbrains.annotations.NotNull;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
+import tech.alexnijjar.golemoverhaul.common.tags.ModBlockTags;
 
 import java.util.concurrent.CompletableFuture;
 
@@ -19,5 +23,8 @@ public class ModBlockTagProvider extends TagsProvider<Block> {
 
     @Override
     protected void addTags(HolderLookup.@NotNull Provider provider) {
+        tag(ModBlockTags.GOLEM_HEADS)
+            .add(TagEntry.element(BuiltInRegistries.BLOCK.getKey(Blocks.CARVED_PUMPKIN)))
+            .add(TagEntry.element(BuiltInRegistries.BLOCK.getKey(Blocks.JACK_O_LANTERN)));
     }
 }
@@ -8,10 +8,12 @@ import net.minecraft.data.recipes.RecipeOutput;
 import net.minecraft.data.recipes.RecipeProvider;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.tags.BlockTags;
 import net.minecraft.world.level.block.Blocks;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 import tech.alexnijjar.golemoverhaul.common.registry.ModItems;
+import tech.alexnijjar.golemoverhaul.common.tags.ModBlockTags;
 import tech.alexnijjar.golemoverhaul.datagen.builder.GolemConstructionRecipeBuilder;
 
 import java.util.List;
@@ -40,7 +42,9 @@ public class ModRecipeProvider extends RecipeProvider {
             ),
             ResourceKey.create(Registries.ENTITY_TYPE, ModEntityTypes.NETHERITE_GOLEM.getId()),
             ResourceKey.create(Registries.ITEM, ModItems.NETHERITE_GOLEM_SPAWN_EGG.getId())
-        ).save(output, new ResourceLocation(GolemOverhaul.MOD_ID, "golem_construction/netherite_golem"));
+        ).tag("^", ModBlockTags.GOLEM_HEADS)
+            .triggers("^")
+            .save(output, new ResourceLocation(GolemOverhaul.MOD_ID, "golem_construction/netherite_golem"));
 
         new GolemConstructionRecipeBuilder(
             List.of(
@@ -56,7 +60,10 @@ public class ModRecipeProvider extends RecipeProvider {
             ),
             ResourceKey.create(Registries.ENTITY_TYPE, ModEntityTypes.HAY_GOLEM.getId()),
             ResourceKey.create(Registries.ITEM, ModItems.HAY_GOLEM_SPAWN_EGG.getId())
-        ).save(output, new ResourceLocation(GolemOverhaul.MOD_ID, "golem_construction/hay_golem"));
+        ).tag("^", ModBlockTags.GOLEM_HEADS)
+            .tag("/", BlockTags.FENCES)
+            .triggers("^")
+            .save(output, new ResourceLocation(GolemOverhaul.MOD_ID, "golem_construction/hay_golem"));
 
         new GolemConstructionRecipeBuilder(
             List.of(
@@ -1,21 +1,19 @@
 package tech.alexnijjar.golemoverhaul.neoforge;
 
-import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
-import net.minecraft.world.level.LevelAccessor;
-import net.minecraft.world.level.block.Blocks;
-import net.minecraft.world.phys.AABB;
 import net.neoforged.bus.api.IEventBus;
 import net.neoforged.fml.common.Mod;
 import net.neoforged.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.neoforged.fml.loading.FMLEnvironment;
 import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.RegisterCommandsEvent;
 import net.neoforged.neoforge.event.entity.EntityAttributeCreationEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
 import tech.alexnijjar.golemoverhaul.GolemOverhaul;
 import tech.alexnijjar.golemoverhaul.client.neoforge.GolemOverhaulClientForge;
+import tech.alexnijjar.golemoverhaul.common.commands.ModCommands;
+import tech.alexnijjar.golemoverhaul.common.construction.GolemConstruction;
 import tech.alexnijjar.golemoverhaul.common.entities.golems.HayGolem;
-import tech.alexnijjar.golemoverhaul.common.entities.golems.KelpGolem;
 import tech.alexnijjar.golemoverhaul.common.registry.ModEntityTypes;
 
 @Mod(GolemOverhaul.MOD_ID)
@@ -30,6 +28,7 @@ public class GolemOverhaulNeoForge {
         }
         NeoForge.EVENT_BUS.addListener(GolemOverhaulNeoForge::onFarmlandTrample);
         NeoForge.EVENT_BUS.addListener(GolemOverhaulNeoForge::onBlockPlace);
+        NeoForge.EVENT_BUS.addListener(GolemOverhaulNeoForge::onRegisterCommands);
     }
 
     public static void onAttributes(EntityAttributeCreationEvent event) {
@@ -37,25 +36,23 @@ public class GolemOverhaulNeoForge {
     }
 
     public static void commonSetup(FMLCommonSetupEvent event) {
-        GolemOverhaul.postInit();
+        // Setup runs in parallel, while the dispenser and spawn placement registries aren't thread safe.
+        event.enqueueWork(GolemOverhaul::postInit);
     }
 
     private static void onFarmlandTrample(BlockEvent.FarmlandTrampleEvent event) {
-        LevelAccessor level = event.getLevel();
-        if (!level.isClientSide()) {
-            BlockPos pos = event.getPos();
-            AABB bounds = event.getState().getCollisionShape(level, pos).bounds().move(pos).inflate(10);
-
-            if (!level.getEntitiesOfClass(HayGolem.class, bounds).isEmpty()) {
-                event.setCanceled(true);
-            }
+        if (HayGolem.isFarmlandProtected(event.getLevel(), event.getPos())) {
+            event.setCanceled(true);
         }
     }
 
+    private static void onRegisterCommands(RegisterCommandsEvent event) {
+        ModCommands.register(event.getDispatcher());
+    }
+
     private static void onBlockPlace(BlockEvent.EntityPlaceEvent event) {
         if (event.getLevel() instanceof ServerLevel level) {
-            if (event.getState().is(Blocks.SEA_LANTERN)) KelpGolem.trySpawnGolem(level, event.getPos());
-            if (event.getState().is(Blocks.DRIED_KELP_BLOCK)) KelpGolem.trySpawnGolem(level, event.getPos());
+            GolemConstruction.onBlockPlaced(level, event.getPos(), event.getState());
         }
     }
 }